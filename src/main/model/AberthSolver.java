@@ -0,0 +1,167 @@
+package model;
+
+import java.util.List;
+
+/*
+ * Finds all complex roots of a polynomial simultaneously with the Aberth-Ehrlich method
+ * (https://en.wikipedia.org/wiki/Aberth_method).
+ * Every iteration updates all n approximations at once, with each approximation being pushed away from the others,
+ * so the cost depends on the degree rather than on how the roots are spaced.
+ * The approximations start on a circle derived from the coefficients:
+ * centered on the mean of the roots, with a radius of the geometric mean of the roots' distances from that center.
+ * Outside the unit circle, z^n overflows at high degrees, so p is evaluated there through its reverse instead.
+ */
+public class AberthSolver implements IRootSolver {
+    private static final int MAX_ITERATIONS = 1000;
+    private static final double TOLERANCE = 4 * Math.ulp(1.0);
+    private static final double STARTING_ANGLE = 0.4; // avoids starting symmetrically with the roots
+
+    // Finds all complex roots of the polynomial, listed once per multiplicity
+    // REQUIRES: coefficients indexed by degree, with a non-zero leading coefficient
+    // EFFECTS: Returns the complex roots in ascending order; throws ArithmeticException if an approximation isn't
+    //          finite
+    @Override
+    public List<ComplexRoot> solve(double[] coefficients) {
+        int degree = coefficients.length - 1;
+        double[] real = new double[degree];
+        double[] imaginary = new double[degree];
+        initializeApproximations(coefficients, real, imaginary);
+
+        boolean[] converged = new boolean[degree];
+        int convergedCount = 0;
+        for (int iteration = 0; iteration < MAX_ITERATIONS && convergedCount < degree; iteration++) {
+            for (int k = 0; k < degree; k++) {
+                if (!converged[k] && updateApproximation(coefficients, real, imaginary, k)) {
+                    converged[k] = true;
+                    convergedCount++;
+                }
+            }
+        }
+
+        for (int k = 0; k < degree; k++) {
+            if (!Double.isFinite(real[k]) || !Double.isFinite(imaginary[k])) {
+                throw new ArithmeticException("Aberth approximation isn't finite: " + real[k] + ", " + imaginary[k]);
+            }
+        }
+        return ComplexRoot.fromApproximations(real, imaginary);
+    }
+
+    // Places the approximations on a circle centered on the mean of the roots, c = -a_(n-1) / (n * a_n),
+    // with a radius of |q(0) / q_n|^(1/n), where q(y) = p(y + c) is the polynomial shifted to that center
+    // MODIFIES: real, imaginary
+    // EFFECTS: Initializes the approximations
+    private static void initializeApproximations(double[] coefficients, double[] real, double[] imaginary) {
+        int degree = coefficients.length - 1;
+        double center = -coefficients[degree - 1] / (degree * coefficients[degree]);
+        double shiftedConstant = evaluateAtPoint(coefficients, center, 0, false)[0];
+        double radius = Math.pow(Math.abs(shiftedConstant / coefficients[degree]), 1.0 / degree);
+        if (radius == 0 || !Double.isFinite(radius)) {
+            radius = 1;
+        }
+
+        for (int k = 0; k < degree; k++) {
+            double angle = 2 * Math.PI * k / degree + STARTING_ANGLE;
+            real[k] = center + radius * Math.cos(angle);
+            imaginary[k] = radius * Math.sin(angle);
+        }
+    }
+
+    // Applies the Aberth correction w = N / (1 - N * sum(1 / (z_k - z_j))), where N = p(z_k) / p'(z_k),
+    // to the k-th approximation. Updated approximations are used right away (Gauss-Seidel style).
+    // MODIFIES: real, imaginary
+    // EFFECTS: Updates the k-th approximation and returns whether it has converged
+    private static boolean updateApproximation(double[] coefficients, double[] real, double[] imaginary, int k) {
+        double[] newton = getNewtonStep(coefficients, real[k], imaginary[k]);
+        if (newton == null) {
+            return true;
+        }
+
+        double[] repulsion = getRepulsion(real, imaginary, k);
+        double[] product = multiply(newton[0], newton[1], repulsion[0], repulsion[1]);
+        double[] correction = divide(newton[0], newton[1], 1 - product[0], -product[1]);
+        if (!Double.isFinite(correction[0]) || !Double.isFinite(correction[1])) {
+            return false; // i.e. p'(z) = 0, so the approximation waits for the others to move
+        }
+
+        real[k] -= correction[0];
+        imaginary[k] -= correction[1];
+        return Math.hypot(correction[0], correction[1]) <= TOLERANCE * Math.hypot(real[k], imaginary[k]);
+    }
+
+    // Returns sum(1 / (z_k - z_j)) over all other approximations j
+    // EFFECTS: Returns the repulsion of the k-th approximation from the others
+    private static double[] getRepulsion(double[] real, double[] imaginary, int k) {
+        double sumReal = 0;
+        double sumImaginary = 0;
+
+        for (int j = 0; j < real.length; j++) {
+            if (j != k) {
+                double[] inverse = divide(1, 0, real[k] - real[j], imaginary[k] - imaginary[j]);
+                sumReal += inverse[0];
+                sumImaginary += inverse[1];
+            }
+        }
+
+        return new double[] {sumReal, sumImaginary};
+    }
+
+    // Returns the Newton step N = p(z) / p'(z), unless p(z) is already within rounding error of zero. Outside the
+    // unit circle, p is evaluated through its reverse r(w) = w^n p(1/w) at w = 1/z, where the powers stay bounded:
+    // p(z) / p'(z) = z / (n - w r'(w) / r(w)), and |p(z)| and its error bound are both |r(w)| scaled by |z|^n
+    // EFFECTS: Returns {Re N, Im N}, or null if p(z) is within rounding error of zero
+    private static double[] getNewtonStep(double[] coefficients, double real, double imaginary) {
+        boolean isReversed = Math.hypot(real, imaginary) > 1;
+        double[] point = isReversed ? divide(1, 0, real, imaginary) : new double[] {real, imaginary};
+        double[] evaluation = evaluateAtPoint(coefficients, point[0], point[1], isReversed);
+        if (Math.hypot(evaluation[0], evaluation[1]) <= TOLERANCE * coefficients.length * evaluation[4]) {
+            return null;
+        } else if (!isReversed) {
+            return divide(evaluation[0], evaluation[1], evaluation[2], evaluation[3]);
+        }
+
+        double[] ratio = divide(evaluation[2], evaluation[3], evaluation[0], evaluation[1]);
+        double[] product = multiply(point[0], point[1], ratio[0], ratio[1]);
+        return divide(real, imaginary, coefficients.length - 1 - product[0], -product[1]);
+    }
+
+    // Evaluates the polynomial (or its reverse, with the coefficients in the opposite order) and its derivative at
+    // the complex point z with Horner's method, along with the error bound scale sum(|a_i| |z|^i)
+    // EFFECTS: Returns {Re p(z), Im p(z), Re p'(z), Im p'(z), sum(|a_i| |z|^i)}
+    private static double[] evaluateAtPoint(double[] coefficients, double real, double imaginary,
+                                            boolean isReversed) {
+        double[] value = {0, 0};
+        double[] slope = {0, 0};
+        double magnitude = 0;
+        double modulus = Math.hypot(real, imaginary);
+
+        for (int i = coefficients.length - 1; i >= 0; i--) {
+            double coefficient = coefficients[isReversed ? coefficients.length - 1 - i : i];
+            slope = multiply(slope[0], slope[1], real, imaginary);
+            slope[0] += value[0];
+            slope[1] += value[1];
+            value = multiply(value[0], value[1], real, imaginary);
+            value[0] += coefficient;
+            magnitude = magnitude * modulus + Math.abs(coefficient);
+        }
+
+        return new double[] {value[0], value[1], slope[0], slope[1], magnitude};
+    }
+
+    // EFFECTS: Returns (a + bi)(c + di)
+    private static double[] multiply(double a, double b, double c, double d) {
+        return new double[] {a * c - b * d, a * d + b * c};
+    }
+
+    // EFFECTS: Returns (a + bi) / (c + di), scaled to avoid overflow (Smith's algorithm)
+    private static double[] divide(double a, double b, double c, double d) {
+        if (Math.abs(c) >= Math.abs(d)) {
+            double ratio = d / c;
+            double denominator = c + d * ratio;
+            return new double[] {(a + b * ratio) / denominator, (b - a * ratio) / denominator};
+        } else {
+            double ratio = c / d;
+            double denominator = c * ratio + d;
+            return new double[] {(a * ratio + b) / denominator, (b * ratio - a) / denominator};
+        }
+    }
+}
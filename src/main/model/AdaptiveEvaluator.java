@@ -0,0 +1,176 @@
+package model;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/*
+ * Evaluates an integer polynomial with just enough precision to be sure of the sign of the result.
+ * Horner's method in doubles comes with a running error bound, and when the result is within it (i.e. near
+ * clustered roots, where double evaluation is mostly noise) the evaluation is repeated with compensated Horner
+ * (https://doi.org/10.1007/s11075-005-9005-5), which is as accurate as Horner's method in twice the precision.
+ * Only when even that can't tell the sign is the polynomial evaluated exactly, which is always possible since
+ * every double is a rational number.
+ */
+public class AdaptiveEvaluator {
+    private static final double UNIT_ROUNDOFF = Math.ulp(1.0) / 2;
+
+    private final BigInteger[] p;
+    private final double[] coefficients;
+    private final boolean isExactInDoubles; // whether every coefficient is a double, with nothing rounded off
+    private final boolean isFinite; // whether every coefficient rounds to a finite double
+
+    // Constructs an adaptive evaluator for the integer polynomial
+    // EFFECTS: Constructs an adaptive evaluator
+    public AdaptiveEvaluator(BigInteger[] p) {
+        this.p = ZMathUtil.trim(p);
+        coefficients = new double[this.p.length];
+        boolean isExact = true;
+        boolean isAllFinite = true;
+        for (int i = 0; i < coefficients.length; i++) {
+            coefficients[i] = this.p[i].doubleValue();
+            isAllFinite = isAllFinite && Double.isFinite(coefficients[i]);
+            isExact = isExact && isAllFinite && new BigDecimal(coefficients[i]).toBigInteger().equals(this.p[i]);
+        }
+        isExactInDoubles = isExact;
+        isFinite = isAllFinite;
+    }
+
+    // Evaluates the polynomial at point x, escalating the precision until the sign of the result is certain
+    // REQUIRES: point is finite
+    // EFFECTS: Returns the function result, which has the sign of the exact result (and is only zero if it is)
+    public double evaluateAtPoint(double point) {
+        if (isFinite) {
+            double[] evaluation = evaluateWithHorner(point);
+            if (Math.abs(evaluation[0]) > evaluation[1]) {
+                return evaluation[0];
+            }
+        }
+        if (isExactInDoubles) {
+            double[] evaluation = evaluateWithCompensatedHorner(point);
+            if (Math.abs(evaluation[0]) > evaluation[1]) {
+                return evaluation[0];
+            }
+        }
+        return evaluateExactly(point);
+    }
+
+    // Returns the sign of the polynomial at point x
+    // REQUIRES: point is finite
+    // EFFECTS: Returns -1, 0 or 1 for a negative, zero or positive result
+    public int getSign(double point) {
+        return (int) Math.signum(evaluateAtPoint(point));
+    }
+
+    // Evaluates the polynomial at point x with Horner's method, along with the bound gamma_2n sum(|a_i| |x|^i)
+    // on its rounding error (twice what fused multiply-adds need, which also covers rounding the bound itself),
+    // plus the error of underflowing to subnormals. Coefficients that were rounded to doubles add one more rounding
+    // REQUIRES: every coefficient is a finite double when rounded
+    // EFFECTS: Returns {p(x), error bound}
+    public double[] evaluateWithHorner(double point) {
+        double value = 0;
+        double magnitude = 0;
+        double absolutePoint = Math.abs(point);
+        for (int i = coefficients.length - 1; i >= 0; i--) {
+            value = Math.fma(value, point, coefficients[i]);
+            magnitude = Math.fma(magnitude, absolutePoint, Math.abs(coefficients[i]));
+        }
+
+        int n = 2 * coefficients.length;
+        return new double[] {value, getGamma(getRoundings(n)) * magnitude + n * Double.MIN_VALUE};
+    }
+
+    // Evaluates the polynomial at point x with compensated Horner's method: the rounding error of each step is
+    // recovered exactly (with TwoProduct and TwoSum) and evaluated as a second polynomial, then added back in.
+    // The result is within u|p(x)| + gamma_2n^2 sum(|a_i| |x|^i) of p(x), and the bound returned is that
+    // second part doubled
+    // REQUIRES: every coefficient is exactly a double
+    // EFFECTS: Returns {p(x), error bound}
+    public double[] evaluateWithCompensatedHorner(double point) {
+        double value = 0;
+        double error = 0;
+        double magnitude = 0;
+        double absolutePoint = Math.abs(point);
+        for (int i = coefficients.length - 1; i >= 0; i--) {
+            double product = value * point;
+            double productError = Math.fma(value, point, -product); // TwoProduct
+            value = product + coefficients[i];
+            double sumError = getSumError(product, coefficients[i], value); // TwoSum
+            error = Math.fma(error, point, productError + sumError);
+            magnitude = Math.fma(magnitude, absolutePoint, Math.abs(coefficients[i]));
+        }
+
+        int n = 2 * coefficients.length;
+        double gamma = getGamma(n);
+        return new double[] {value + error, 2 * gamma * gamma * magnitude + n * Double.MIN_VALUE};
+    }
+
+    // Evaluates the polynomial at point x exactly, since a double is a rational with a power of two denominator
+    // EFFECTS: Returns the function result rounded to a double, or the smallest double of its sign if that underflows
+    public double evaluateExactly(double point) {
+        BigDecimal exactPoint = new BigDecimal(point);
+        BigDecimal value = BigDecimal.ZERO;
+        for (int i = p.length - 1; i >= 0; i--) {
+            value = value.multiply(exactPoint).add(new BigDecimal(p[i]));
+        }
+
+        double result = value.doubleValue();
+        return result != 0 || value.signum() == 0 ? result : Math.copySign(Double.MIN_VALUE, value.signum());
+    }
+
+    // Returns whether p certainly has no roots in [left, right]: by Taylor's theorem about the midpoint m,
+    // |p(x) - p(m)| <= |p'(m)| h + M h^2 / 2 within the half-width h, where M = sum(i (i - 1) |a_i| r^(i - 2)) bounds
+    // |p''| with r = max(|left|, |right|), so p can't reach zero if |p(m)| is larger than that. The rounding errors
+    // of evaluating them (and of rounding the coefficients) are covered by gamma_4n of their magnitudes
+    // REQUIRES: left <= right, both finite
+    // EFFECTS: Returns whether p has no roots in [left, right], or false if it can't tell
+    public boolean isRootFree(double left, double right) {
+        if (!isFinite) {
+            return false;
+        }
+
+        double point = left / 2 + right / 2;
+        double halfWidth = Math.max(point - left, right - point) * (1 + 2 * UNIT_ROUNDOFF);
+        double[] terms = getTaylorTerms(point, Math.max(Math.abs(left), Math.abs(right)));
+        double gamma = getGamma(getRoundings(4 * coefficients.length));
+        double variation = (Math.abs(terms[1]) + gamma * terms[3] + terms[4] * halfWidth / 2) * halfWidth;
+        return Math.abs(terms[0]) - gamma * terms[2] - coefficients.length * Double.MIN_VALUE
+                > variation * (1 + gamma);
+    }
+
+    // Evaluates p and p' at point x with Horner's method, along with their magnitudes sum(|a_i| |x|^i) and
+    // sum(i |a_i| |x|^(i - 1)), and the bound M = sum(i (i - 1) |a_i| r^(i - 2)) on |p''| within radius r of zero
+    // EFFECTS: Returns {p(x), p'(x), sum(|a_i| |x|^i), sum(i |a_i| |x|^(i - 1)), M}
+    private double[] getTaylorTerms(double point, double radius) {
+        double value = 0;
+        double slope = 0;
+        double magnitude = 0;
+        double slopeMagnitude = 0;
+        double curvature = 0;
+        for (int i = coefficients.length - 1; i >= 0; i--) {
+            slope = slope * point + value;
+            value = value * point + coefficients[i];
+            slopeMagnitude = slopeMagnitude * Math.abs(point) + magnitude;
+            magnitude = magnitude * Math.abs(point) + Math.abs(coefficients[i]);
+            curvature = i >= 2 ? curvature * radius + (double) i * (i - 1) * Math.abs(coefficients[i]) : curvature;
+        }
+        return new double[] {value, slope, magnitude, slopeMagnitude, curvature};
+    }
+
+    // Returns the rounding error of sum = a + b, so that a + b = sum + error exactly (Knuth's TwoSum)
+    // REQUIRES: sum is a + b rounded to the nearest double
+    // EFFECTS: Returns the error
+    private static double getSumError(double a, double b, double sum) {
+        double bVirtual = sum - a;
+        return (a - (sum - bVirtual)) + (b - bVirtual);
+    }
+
+    // EFFECTS: Returns the number of roundings, which is one more if the coefficients themselves were rounded
+    private int getRoundings(int n) {
+        return isExactInDoubles ? n : n + 1;
+    }
+
+    // EFFECTS: Returns gamma_n = nu / (1 - nu), the usual bound on the error of n roundings
+    private static double getGamma(int n) {
+        return n * UNIT_ROUNDOFF / (1 - n * UNIT_ROUNDOFF);
+    }
+}
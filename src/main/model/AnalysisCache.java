@@ -0,0 +1,71 @@
+package model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+ * A process-wide cache of the analyses of polynomials, since the same polynomial is solved over and over (e.g. the
+ * graph solves it again on every repaint). Polynomials are keyed by their terms, so equal polynomials share an
+ * entry however they were built, and the least recently used entries are evicted once the cache is full.
+ * The cache is thread-safe; the analyses are solved lazily outside the cache's lock, so a slow solve never blocks
+ * other threads from the cache.
+ */
+public final class AnalysisCache {
+    private static final int MAX_CACHED_POLYNOMIALS = 256;
+
+    private static long hits;
+    private static long misses;
+    private static long evictions;
+
+    private static final Map<Polynomial, PolynomialAnalysis> ANALYSES = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Polynomial, PolynomialAnalysis> eldest) {
+            if (size() > MAX_CACHED_POLYNOMIALS) {
+                evictions++;
+                return true;
+            }
+            return false;
+        }
+    };
+
+    // Gets the analysis of the polynomial, creating it only if it isn't cached
+    // EFFECTS: Returns the analysis
+    public static synchronized PolynomialAnalysis getAnalysis(Polynomial polynomial) {
+        PolynomialAnalysis analysis = ANALYSES.get(polynomial);
+        if (analysis == null) {
+            misses++;
+            // keyed by a copy, so that changing the polynomial later doesn't change the key
+            analysis = new PolynomialAnalysis(polynomial);
+            ANALYSES.put(polynomial.createCopy(), analysis);
+        } else {
+            hits++;
+        }
+        return analysis;
+    }
+
+    // Removes every entry and resets the statistics
+    // MODIFIES: this
+    // EFFECTS: clears the cache
+    public static synchronized void clear() {
+        ANALYSES.clear();
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    public static synchronized int getSize() {
+        return ANALYSES.size();
+    }
+
+    public static synchronized long getHitCount() {
+        return hits;
+    }
+
+    public static synchronized long getMissCount() {
+        return misses;
+    }
+
+    public static synchronized long getEvictionCount() {
+        return evictions;
+    }
+}
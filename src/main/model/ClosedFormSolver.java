@@ -0,0 +1,121 @@
+package model;
+
+import java.util.Arrays;
+
+/*
+ * Finds the real roots of quadratic, cubic and quartic polynomials in closed form.
+ * Each formula is arranged to avoid subtracting nearly equal numbers (catastrophic cancellation):
+ * quadratics use the citardauq form for the smaller root, cubics use Cardano's formula
+ * (https://en.wikipedia.org/wiki/Cubic_equation#Cardano's_formula) when there's one real root and the
+ * trigonometric method when there are three, and quartics use Ferrari's method
+ * (https://en.wikipedia.org/wiki/Quartic_function#Ferrari's_solution) to split into two quadratics.
+ */
+public final class ClosedFormSolver {
+
+    // Returns the real roots of ax^2 + bx + c
+    // REQUIRES: a != 0
+    // EFFECTS: Returns the real roots in increasing order
+    public static double[] solveQuadratic(double a, double b, double c) {
+        double discriminant = b * b - 4 * a * c;
+        if (discriminant < 0) {
+            return new double[0];
+        }
+
+        double q = -(b + Math.copySign(Math.sqrt(discriminant), b)) / 2;
+        if (q == 0) {
+            return new double[] {0, 0};
+        }
+        return sorted(q / a, c / q);
+    }
+
+    // Returns the real roots of ax^3 + bx^2 + cx + d, by solving the depressed cubic t^3 + pt + q
+    // where x = t - b / 3a
+    // REQUIRES: a != 0
+    // EFFECTS: Returns the real roots in increasing order
+    public static double[] solveCubic(double a, double b, double c, double d) {
+        double shift = b / (3 * a);
+        double p = (3 * a * c - b * b) / (3 * a * a);
+        double q = (2 * b * b * b - 9 * a * b * c + 27 * a * a * d) / (27 * a * a * a);
+        double discriminant = q * q / 4 + p * p * p / 27;
+
+        if (discriminant > 0 || p == 0) {
+            // one real root; pick the cube root that adds magnitudes rather than cancelling them
+            double u = -Math.copySign(Math.cbrt(Math.abs(q) / 2 + Math.sqrt(Math.max(discriminant, 0))), q);
+            double v = u != 0 ? -p / (3 * u) : 0;
+            return new double[] {u + v - shift};
+        }
+
+        double radius = 2 * Math.sqrt(-p / 3);
+        double angle = Math.acos(Math.max(-1, Math.min(1, 3 * q / (p * radius)))) / 3;
+        return sorted(radius * Math.cos(angle) - shift,
+                radius * Math.cos(angle - 2 * Math.PI / 3) - shift,
+                radius * Math.cos(angle - 4 * Math.PI / 3) - shift);
+    }
+
+    // Returns the real roots of ax^4 + bx^3 + cx^2 + dx + e, by solving the depressed quartic y^4 + py^2 + qy + r
+    // where x = y - b / 4a
+    // REQUIRES: a != 0
+    // EFFECTS: Returns the real roots in increasing order
+    public static double[] solveQuartic(double a, double b, double c, double d, double e) {
+        b /= a;
+        c /= a;
+        d /= a;
+        e /= a;
+        double shift = b / 4;
+        double p = c - 3 * b * b / 8;
+        double q = d - b * c / 2 + b * b * b / 8;
+        double r = e - b * d / 4 + b * b * c / 16 - 3 * b * b * b * b / 256;
+
+        double[] roots = q == 0 ? solveBiquadratic(p, r) : solveDepressedQuartic(p, q, r);
+        for (int i = 0; i < roots.length; i++) {
+            roots[i] -= shift;
+        }
+        return roots;
+    }
+
+    // Returns the real roots of y^4 + py^2 + r, a quadratic in y^2
+    // EFFECTS: Returns the real roots in increasing order
+    private static double[] solveBiquadratic(double p, double r) {
+        double[] squares = solveQuadratic(1, p, r);
+        double[] roots = new double[0];
+        for (double square : squares) {
+            if (square >= 0) {
+                roots = concatenate(roots, -Math.sqrt(square), Math.sqrt(square));
+            }
+        }
+        return sorted(roots);
+    }
+
+    // Returns the real roots of y^4 + py^2 + qy + r, q != 0, by finding m > 0 such that
+    // y^4 + py^2 + qy + r = (y^2 + p/2 + m)^2 - 2m(y - q/4m)^2, which then splits into two quadratics.
+    // A q that's only rounding noise can leave m <= 0 (or so small that q/2s overflows), and then the quartic is
+    // solved as if q were 0
+    // EFFECTS: Returns the real roots in increasing order
+    private static double[] solveDepressedQuartic(double p, double q, double r) {
+        // the resolvent cubic 8m^3 + 8pm^2 + (2p^2 - 8r)m - q^2 is negative at 0 so its largest root is positive
+        double[] resolventRoots = solveCubic(8, 8 * p, 2 * p * p - 8 * r, -q * q);
+        double m = resolventRoots[resolventRoots.length - 1];
+        double s = Math.sqrt(2 * m);
+        if (!(m > 0) || !Double.isFinite(q / (2 * s))) {
+            return solveBiquadratic(p, r);
+        }
+
+        double[] roots = concatenate(solveQuadratic(1, s, p / 2 + m - q / (2 * s)),
+                solveQuadratic(1, -s, p / 2 + m + q / (2 * s)));
+        return sorted(roots);
+    }
+
+    // EFFECTS: Returns the concatenation of the roots
+    private static double[] concatenate(double[] roots, double... moreRoots) {
+        double[] concatenation = Arrays.copyOf(roots, roots.length + moreRoots.length);
+        System.arraycopy(moreRoots, 0, concatenation, roots.length, moreRoots.length);
+        return concatenation;
+    }
+
+    // EFFECTS: Returns the roots in increasing order
+    private static double[] sorted(double... roots) {
+        double[] copy = roots.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+}
@@ -0,0 +1,342 @@
+package model;
+
+import java.util.List;
+
+/*
+ * Finds all complex roots of a polynomial as the eigenvalues of its companion matrix
+ * (https://en.wikipedia.org/wiki/Companion_matrix).
+ * The companion matrix is already upper Hessenberg, so after balancing it goes straight into the
+ * Francis double-shift QR iteration (https://en.wikipedia.org/wiki/QR_algorithm), based on the hqr routine
+ * from Numerical Recipes. The cost is a predictable O(n^3) regardless of how the roots are spaced.
+ * The matrix is stored in a flat row-major double[] that's reused between solves, so nothing is allocated
+ * per QR step; because of this, a solver instance must not be shared between threads.
+ */
+public class CompanionMatrixSolver implements IRootSolver {
+    private static final int MAX_ITERATIONS = 60;
+    private static final int EXCEPTIONAL_SHIFT_PERIOD = 10;
+    private static final double RADIX = 2;
+
+    private double[] matrix = new double[0];
+    private int size;
+    private double[] real;
+    private double[] imaginary;
+    private double norm;
+    private double accumulatedShift;
+    private final double[] shift = new double[3];     // {x, y, w} of the double shift
+    private final double[] reflector = new double[3]; // {p, q, r} of the first Householder reflector
+
+    // Finds all complex roots of the polynomial, listed once per multiplicity
+    // REQUIRES: coefficients indexed by degree, with a non-zero leading coefficient
+    // EFFECTS: Returns the complex roots in ascending order; throws ArithmeticException if the QR iteration doesn't
+    //          converge
+    @Override
+    public List<ComplexRoot> solve(double[] coefficients) {
+        size = coefficients.length - 1;
+        if (matrix.length < size * size) {
+            matrix = new double[size * size];
+        }
+        real = new double[size];
+        imaginary = new double[size];
+
+        if (!buildCompanionMatrix(coefficients)) {
+            throw new ArithmeticException("Companion matrix overflows");
+        }
+        balance();
+        findEigenvalues();
+        return ComplexRoot.fromApproximations(real, imaginary);
+    }
+
+    // Builds the companion matrix of the monic polynomial x^n + c_(n-1) x^(n-1) + ... + c_0,
+    // with -c_(n-1), ..., -c_0 along the first row and ones along the subdiagonal
+    // MODIFIES: this
+    // EFFECTS: Builds the companion matrix, and returns whether its entries are all finite (the ratios of the
+    //          coefficients can overflow)
+    private boolean buildCompanionMatrix(double[] coefficients) {
+        for (int i = 0; i < size * size; i++) {
+            matrix[i] = 0;
+        }
+        boolean isFinite = true;
+        for (int j = 0; j < size; j++) {
+            matrix[index(0, j)] = -coefficients[size - 1 - j] / coefficients[size];
+            isFinite = isFinite && Double.isFinite(matrix[index(0, j)]);
+        }
+        for (int i = 1; i < size; i++) {
+            matrix[index(i, i - 1)] = 1;
+        }
+        return isFinite;
+    }
+
+    // Balances the matrix with a diagonal similarity transform by powers of the radix, so that rows and columns
+    // have comparable norms. This keeps the Hessenberg form and greatly improves the accuracy of the eigenvalues.
+    // MODIFIES: this
+    // EFFECTS: Balances the matrix
+    private void balance() {
+        boolean isBalanced = false;
+        while (!isBalanced) {
+            isBalanced = true;
+            for (int i = 0; i < size; i++) {
+                double columnNorm = 0;
+                double rowNorm = 0;
+                for (int j = 0; j < size; j++) {
+                    if (j != i) {
+                        columnNorm += Math.abs(matrix[index(j, i)]);
+                        rowNorm += Math.abs(matrix[index(i, j)]);
+                    }
+                }
+                if (columnNorm != 0 && rowNorm != 0 && balanceRowAndColumn(i, columnNorm, rowNorm)) {
+                    isBalanced = false;
+                }
+            }
+        }
+    }
+
+    // Scales row i by 1/f and column i by f, where f is the power of the radix that best equalizes their norms
+    // MODIFIES: this
+    // EFFECTS: Returns whether the scaling was worth applying (and applies it if so)
+    private boolean balanceRowAndColumn(int i, double columnNorm, double rowNorm) {
+        double factor = 1;
+        double sum = columnNorm + rowNorm;
+        while (columnNorm < rowNorm / RADIX) {
+            factor *= RADIX;
+            columnNorm *= RADIX * RADIX;
+        }
+        while (columnNorm > rowNorm * RADIX) {
+            factor /= RADIX;
+            columnNorm /= RADIX * RADIX;
+        }
+
+        if ((columnNorm + rowNorm) / factor >= 0.95 * sum) {
+            return false;
+        }
+        for (int j = 0; j < size; j++) {
+            matrix[index(i, j)] /= factor;
+            matrix[index(j, i)] *= factor;
+        }
+        return true;
+    }
+
+    // Finds all eigenvalues of the upper Hessenberg matrix, deflating one or two at a time from the bottom
+    // MODIFIES: this
+    // EFFECTS: Finds the eigenvalues
+    private void findEigenvalues() {
+        norm = 0;
+        for (int i = 0; i < size; i++) {
+            for (int j = Math.max(i - 1, 0); j < size; j++) {
+                norm += Math.abs(matrix[index(i, j)]);
+            }
+        }
+
+        accumulatedShift = 0;
+        int last = size - 1;
+        while (last >= 0) {
+            last = deflate(last);
+        }
+    }
+
+    // Runs QR sweeps on the active block ending at row last until one or two eigenvalues split off
+    // MODIFIES: this
+    // EFFECTS: Stores the deflated eigenvalues and returns the new last row of the active block; throws
+    //          ArithmeticException if nothing splits off within MAX_ITERATIONS sweeps
+    private int deflate(int last) {
+        for (int iteration = 1; ; iteration++) {
+            int first = findSmallSubdiagonal(last);
+            if (iteration > MAX_ITERATIONS && first < last - 1) {
+                throw new ArithmeticException("QR iteration didn't converge for eigenvalue " + last);
+            } else if (first == last) {
+                real[last] = matrix[index(last, last)] + accumulatedShift;
+                imaginary[last] = 0;
+                return last - 1;
+            } else if (first == last - 1) {
+                storeEigenvaluePair(last);
+                return last - 2;
+            }
+
+            sweep(first, last, iteration);
+        }
+    }
+
+    // Runs one double-shift QR sweep on the active block from row first to row last
+    // MODIFIES: this
+    // EFFECTS: Runs the sweep
+    private void sweep(int first, int last, int iteration) {
+        setShift(last, iteration);
+        int start = findSweepStart(first, last);
+        for (int i = start + 2; i <= last; i++) {
+            matrix[index(i, i - 2)] = 0;
+            if (i != start + 2) {
+                matrix[index(i, i - 3)] = 0;
+            }
+        }
+        for (int k = start; k < last; k++) {
+            applyReflector(first, start, last, k);
+        }
+    }
+
+    // Looks for a negligible subdiagonal element to split the matrix at, zeroing it out if found
+    // MODIFIES: this
+    // EFFECTS: Returns the first row of the active block ending at row last
+    private int findSmallSubdiagonal(int last) {
+        for (int first = last; first >= 1; first--) {
+            double scale = Math.abs(matrix[index(first - 1, first - 1)]) + Math.abs(matrix[index(first, first)]);
+            if (scale == 0) {
+                scale = norm;
+            }
+            if (Math.abs(matrix[index(first, first - 1)]) + scale == scale) {
+                matrix[index(first, first - 1)] = 0;
+                return first;
+            }
+        }
+        return 0;
+    }
+
+    // Stores the eigenvalues of the trailing 2x2 block, which are either both real or a conjugate pair
+    // MODIFIES: this
+    // EFFECTS: Stores the pair of eigenvalues
+    private void storeEigenvaluePair(int last) {
+        double x = matrix[index(last, last)];
+        double y = matrix[index(last - 1, last - 1)];
+        double w = matrix[index(last, last - 1)] * matrix[index(last - 1, last)];
+        double p = 0.5 * (y - x);
+        double q = p * p + w;
+        double z = Math.sqrt(Math.abs(q));
+        x += accumulatedShift;
+
+        if (q >= 0) {
+            z = p + Math.copySign(z, p);
+            real[last - 1] = x + z;
+            real[last] = z != 0 ? x - w / z : x + z;
+            imaginary[last - 1] = 0;
+            imaginary[last] = 0;
+        } else {
+            real[last - 1] = x + p;
+            real[last] = x + p;
+            imaginary[last - 1] = -z;
+            imaginary[last] = z;
+        }
+    }
+
+    // Sets the double shift from the trailing 2x2 block, with an exceptional shift every so often
+    // to break out of cycles
+    // MODIFIES: this
+    // EFFECTS: Sets the double shift
+    private void setShift(int last, int iteration) {
+        shift[0] = matrix[index(last, last)];
+        shift[1] = matrix[index(last - 1, last - 1)];
+        shift[2] = matrix[index(last, last - 1)] * matrix[index(last - 1, last)];
+
+        if (iteration % EXCEPTIONAL_SHIFT_PERIOD == 0) {
+            accumulatedShift += shift[0];
+            for (int i = 0; i <= last; i++) {
+                matrix[index(i, i)] -= shift[0];
+            }
+            double s = Math.abs(matrix[index(last, last - 1)]) + Math.abs(matrix[index(last - 1, last - 2)]);
+            shift[0] = 0.75 * s;
+            shift[1] = 0.75 * s;
+            shift[2] = -0.4375 * s * s;
+        }
+    }
+
+    // Looks for two consecutive small subdiagonal elements to start the QR sweep from,
+    // and sets up the first Householder reflector for that row
+    // MODIFIES: this
+    // EFFECTS: Returns the row to start the QR sweep from
+    private int findSweepStart(int first, int last) {
+        int start = last - 2;
+        for (; start >= first; start--) {
+            double z = matrix[index(start, start)];
+            double r = shift[0] - z;
+            double s = shift[1] - z;
+            setReflector((r * s - shift[2]) / matrix[index(start + 1, start)] + matrix[index(start, start + 1)],
+                    matrix[index(start + 1, start + 1)] - z - r - s,
+                    matrix[index(start + 2, start + 1)]);
+            if (start == first) {
+                break;
+            }
+
+            double u = Math.abs(matrix[index(start, start - 1)]) * (Math.abs(reflector[1]) + Math.abs(reflector[2]));
+            double v = Math.abs(reflector[0]) * (Math.abs(matrix[index(start - 1, start - 1)]) + Math.abs(z)
+                    + Math.abs(matrix[index(start + 1, start + 1)]));
+            if (u + v == v) {
+                break;
+            }
+        }
+        return start;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: Sets the reflector to {p, q, r}, normalized by |p| + |q| + |r|; returns that normalization scale
+    private double setReflector(double p, double q, double r) {
+        double scale = Math.abs(p) + Math.abs(q) + Math.abs(r);
+        if (scale == 0) {
+            scale = 1;
+        }
+        reflector[0] = p / scale;
+        reflector[1] = q / scale;
+        reflector[2] = r / scale;
+        return scale;
+    }
+
+    // Applies the k-th Householder reflector of the QR sweep to the active block
+    // MODIFIES: this
+    // EFFECTS: Applies the reflector, chasing the bulge down the subdiagonal
+    private void applyReflector(int first, int start, int last, int k) {
+        double scale = 0;
+        if (k != start) {
+            double r = k != last - 1 ? matrix[index(k + 2, k - 1)] : 0;
+            scale = setReflector(matrix[index(k, k - 1)], matrix[index(k + 1, k - 1)], r);
+        }
+
+        double s = Math.copySign(Math.sqrt(reflector[0] * reflector[0] + reflector[1] * reflector[1]
+                + reflector[2] * reflector[2]), reflector[0]);
+        if (s == 0) {
+            return;
+        }
+        if (k != start) {
+            matrix[index(k, k - 1)] = -s * scale;
+        } else if (first != start) {
+            matrix[index(k, k - 1)] = -matrix[index(k, k - 1)];
+        }
+
+        double p = reflector[0] + s;
+        double x = p / s;
+        double y = reflector[1] / s;
+        double z = reflector[2] / s;
+        applyReflectorToRows(k, last, reflector[1] / p, reflector[2] / p, x, y, z);
+        applyReflectorToColumns(first, k, last, reflector[1] / p, reflector[2] / p, x, y, z);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: Applies the reflector from the left to rows k, k + 1 and k + 2
+    private void applyReflectorToRows(int k, int last, double q, double r, double x, double y, double z) {
+        for (int j = k; j <= last; j++) {
+            double p = matrix[index(k, j)] + q * matrix[index(k + 1, j)];
+            if (k != last - 1) {
+                p += r * matrix[index(k + 2, j)];
+                matrix[index(k + 2, j)] -= p * z;
+            }
+            matrix[index(k + 1, j)] -= p * y;
+            matrix[index(k, j)] -= p * x;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: Applies the reflector from the right to columns k, k + 1 and k + 2
+    private void applyReflectorToColumns(int first, int k, int last, double q, double r,
+                                         double x, double y, double z) {
+        int lastRow = Math.min(last, k + 3);
+        for (int i = first; i <= lastRow; i++) {
+            double p = x * matrix[index(i, k)] + y * matrix[index(i, k + 1)];
+            if (k != last - 1) {
+                p += z * matrix[index(i, k + 2)];
+                matrix[index(i, k + 2)] -= p * r;
+            }
+            matrix[index(i, k + 1)] -= p * q;
+            matrix[index(i, k)] -= p;
+        }
+    }
+
+    // EFFECTS: Returns the position of (row, column) in the flat row-major matrix
+    private int index(int row, int column) {
+        return row * size + column;
+    }
+}
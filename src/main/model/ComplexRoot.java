@@ -0,0 +1,141 @@
+package model;
+
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/*
+ * Represents a complex root (aka solution) of the polynomial at p(x) = 0, of the form a + bi.
+ * Unlike Root, complex roots are always approximations, and they're listed once per multiplicity.
+ */
+public class ComplexRoot implements Comparable<ComplexRoot> {
+    // formats aren't thread-safe, and roots can be printed from any thread
+    private static final ThreadLocal<DecimalFormat> ROUNDING_FORMAT =
+            ThreadLocal.withInitial(() -> new DecimalFormat("0.000000"));
+    // repeated roots are only accurate to about eps^(1/multiplicity), so this matches the displayed precision instead
+    private static final double REAL_TOLERANCE = 5e-7;
+    private static final double ROUNDING_NOISE = 64 * Math.ulp(1.0);
+
+    private final double real;
+    private final double imaginary;
+
+    // Constructs a complex root
+    // EFFECTS: Constructs a complex root at real + (imaginary)i, dropping a negligible real part (i.e. 1e-17 + i)
+    public ComplexRoot(double real, double imaginary) {
+        this.real = Math.abs(real) <= ROUNDING_NOISE * Math.abs(imaginary) ? 0 : real;
+        this.imaginary = imaginary;
+    }
+
+    public double getReal() {
+        return real;
+    }
+
+    public double getImaginary() {
+        return imaginary;
+    }
+
+    // Returns whether the root is real, i.e. its imaginary part is negligible compared to its size
+    // EFFECTS: Returns whether the root is real
+    public boolean isReal() {
+        return Math.abs(imaginary) <= REAL_TOLERANCE * Math.max(1, Math.abs(real));
+    }
+
+    // Returns the modulus |a + bi|
+    // EFFECTS: Returns the modulus
+    public double getModulus() {
+        return Math.hypot(real, imaginary);
+    }
+
+    // Overriding toString() method of String class
+    // EFFECTS: Returns the root as a + bi, rounded to 6 decimal places
+    @Override
+    public String toString() {
+        DecimalFormat format = ROUNDING_FORMAT.get();
+        format.setRoundingMode(RoundingMode.HALF_UP);
+        String realText = format.format(real);
+
+        if (isReal()) {
+            return realText;
+        } else if (imaginary < 0) {
+            return realText + "-" + format.format(-imaginary) + "i";
+        } else {
+            return realText + "+" + format.format(imaginary) + "i";
+        }
+    }
+
+    // Overriding compareTo() method of Comparable interface
+    // EFFECTS: Compares two roots with each other for sorting, by real part then imaginary part
+    @Override
+    public int compareTo(ComplexRoot root) {
+        int realComparison = Double.compare(this.real, root.real);
+        return realComparison != 0 ? realComparison : Double.compare(this.imaginary, root.imaginary);
+    }
+
+    // Converts the root approximations of a polynomial with real coefficients into complex roots,
+    // cleaning up the rounding noise:
+    // negligible imaginary parts are dropped, and conjugate pairs are made exact conjugates
+    // EFFECTS: Returns the complex roots in ascending order
+    public static List<ComplexRoot> fromApproximations(double[] real, double[] imaginary) {
+        List<ComplexRoot> roots = new ArrayList<>();
+        boolean[] paired = new boolean[real.length];
+
+        for (int k = 0; k < real.length; k++) {
+            if (new ComplexRoot(real[k], imaginary[k]).isReal()) {
+                roots.add(new ComplexRoot(real[k], 0));
+                paired[k] = true;
+            }
+        }
+        for (int k = 0; k < real.length; k++) {
+            if (!paired[k] && imaginary[k] > 0) {
+                addConjugatePair(roots, real, imaginary, paired, k);
+            }
+        }
+        for (int k = 0; k < real.length; k++) {
+            if (!paired[k]) {
+                roots.add(new ComplexRoot(real[k], imaginary[k]));
+            }
+        }
+
+        Collections.sort(roots);
+        return roots;
+    }
+
+    // Adds the k-th approximation and its closest conjugate as an exact conjugate pair
+    // MODIFIES: roots, paired
+    // EFFECTS: Adds the conjugate pair for the k-th approximation
+    private static void addConjugatePair(List<ComplexRoot> roots, double[] real, double[] imaginary,
+                                         boolean[] paired, int k) {
+        paired[k] = true;
+        int conjugate = findConjugate(real, imaginary, paired, k);
+        if (conjugate < 0) {
+            roots.add(new ComplexRoot(real[k], imaginary[k]));
+            return;
+        }
+
+        double pairReal = (real[k] + real[conjugate]) / 2;
+        double pairImaginary = (imaginary[k] - imaginary[conjugate]) / 2;
+        roots.add(new ComplexRoot(pairReal, -pairImaginary));
+        roots.add(new ComplexRoot(pairReal, pairImaginary));
+    }
+
+    // EFFECTS: Returns the index of the unpaired approximation closest to the conjugate of the k-th one (-1 if none)
+    private static int findConjugate(double[] real, double[] imaginary, boolean[] paired, int k) {
+        int closest = -1;
+        double closestDistance = Double.POSITIVE_INFINITY;
+
+        for (int j = 0; j < real.length; j++) {
+            double distance = Math.hypot(real[k] - real[j], imaginary[k] + imaginary[j]);
+            if (!paired[j] && imaginary[j] < 0 && distance < closestDistance) {
+                closest = j;
+                closestDistance = distance;
+            }
+        }
+
+        if (closest >= 0) {
+            paired[closest] = true;
+        }
+        return closest;
+    }
+}
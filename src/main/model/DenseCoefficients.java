@@ -0,0 +1,196 @@
+package model;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * Represents the coefficients of a polynomial as dense arrays indexed by degree
+ * (i.e. numerators[2] / denominators[2] is the coefficient of x^2), so that looking up or adding a term is O(1).
+ * Like Term, each coefficient is kept in longs while it fits, and only coefficients that overflow are kept
+ * in the arbitrary-precision arrays, which aren't allocated until one does.
+ */
+public class DenseCoefficients implements ICoefficients {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private long[] numerators;
+    private long[] denominators;
+    private BigInteger[] bigNumerators;   // null unless a coefficient doesn't fit in longs
+    private BigInteger[] bigDenominators; // null unless a coefficient doesn't fit in longs
+    private int degree;
+    private int size;
+
+    // Constructs the coefficients of the zero polynomial
+    // EFFECTS: Constructs empty coefficients
+    public DenseCoefficients() {
+        numerators = new long[INITIAL_CAPACITY];
+        denominators = new long[INITIAL_CAPACITY];
+        degree = -1;
+    }
+
+    // Returns the degree of the highest non-zero coefficient (-1 for the zero polynomial)
+    @Override
+    public int getDegree() {
+        return degree;
+    }
+
+    // Returns the number of non-zero coefficients
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // Returns whether the coefficient of x^degree is zero
+    // EFFECTS: Returns whether the coefficient is zero
+    @Override
+    public boolean isZero(int degree) {
+        return degree > this.degree || !isNonZero(degree);
+    }
+
+    // Gets a copy of the term of x^degree
+    // EFFECTS: Returns the term (zero if there isn't one)
+    @Override
+    public Term get(int degree) {
+        if (isZero(degree)) {
+            return new Term(0, 1, degree);
+        } else if (bigNumerators != null && bigNumerators[degree] != null) {
+            return new Term(bigNumerators[degree], bigDenominators[degree], degree);
+        }
+        return new Term(numerators[degree], denominators[degree], degree);
+    }
+
+    // Adds the term to the coefficient of its degree, dropping it if they cancel out
+    // MODIFIES: this
+    // EFFECTS: Adds the term
+    @Override
+    public void add(Term term) {
+        if (term.isZero()) {
+            return;
+        }
+
+        int termDegree = term.getDegree();
+        ensureCapacity(termDegree);
+        if (isZero(termDegree)) {
+            set(term);
+            size++;
+            degree = Math.max(degree, termDegree);
+            return;
+        }
+
+        Term sum = get(termDegree);
+        sum.combineTerm(term);
+        set(sum);
+        if (sum.isZero()) {
+            size--;
+            trimDegree();
+        }
+    }
+
+    // Adds the terms one by one, since each is O(1)
+    // MODIFIES: this
+    // REQUIRES: terms in ascending order of degree, with no two of the same degree
+    // EFFECTS: Adds the terms
+    @Override
+    public void addAll(List<Term> orderedTerms) {
+        for (Term term : orderedTerms) {
+            add(term);
+        }
+    }
+
+    // Gets copies of the non-zero terms
+    // EFFECTS: Returns the terms in ascending order of degree
+    @Override
+    public List<Term> getTerms() {
+        List<Term> terms = new ArrayList<>(size);
+        for (int i = 0; i <= degree; i++) {
+            if (isNonZero(i)) {
+                terms.add(get(i));
+            }
+        }
+        return terms;
+    }
+
+    // Evaluates the polynomial at point x, term by term (see Term.evaluateAtPoint)
+    // EFFECTS: Returns the function result
+    @Override
+    public double evaluateAtPoint(double point) {
+        double sum = 0;
+        for (int i = 0; i <= degree; i++) {
+            if (bigNumerators != null && bigNumerators[i] != null) {
+                sum += get(i).evaluateAtPoint(point);
+            } else if (numerators[i] != 0) {
+                sum += Math.pow(point, i) * numerators[i] / denominators[i];
+            }
+        }
+        return sum;
+    }
+
+    // Sets the coefficients to those of the zero polynomial
+    // MODIFIES: this
+    // EFFECTS: Removes all coefficients
+    @Override
+    public void clear() {
+        Arrays.fill(numerators, 0, degree + 1, 0);
+        bigNumerators = null;
+        bigDenominators = null;
+        degree = -1;
+        size = 0;
+    }
+
+    // Stores the coefficient of the term at its degree
+    // MODIFIES: this
+    // REQUIRES: capacity for the term's degree
+    // EFFECTS: Stores the coefficient
+    private void set(Term term) {
+        int termDegree = term.getDegree();
+        if (term.isBigCoefficient()) {
+            if (bigNumerators == null) {
+                bigNumerators = new BigInteger[numerators.length];
+                bigDenominators = new BigInteger[numerators.length];
+            }
+            bigNumerators[termDegree] = term.getBigNumerator();
+            bigDenominators[termDegree] = term.getBigDenominator();
+            numerators[termDegree] = 0;
+        } else {
+            if (bigNumerators != null) {
+                bigNumerators[termDegree] = null;
+                bigDenominators[termDegree] = null;
+            }
+            numerators[termDegree] = term.getNumerator();
+            denominators[termDegree] = term.getDenominator();
+        }
+    }
+
+    // EFFECTS: Returns whether the coefficient of x^degree is non-zero
+    // REQUIRES: degree < capacity
+    private boolean isNonZero(int degree) {
+        return numerators[degree] != 0 || (bigNumerators != null && bigNumerators[degree] != null);
+    }
+
+    // Lowers the degree past any zero coefficients at the top
+    // MODIFIES: this
+    // EFFECTS: Updates the degree
+    private void trimDegree() {
+        while (degree >= 0 && !isNonZero(degree)) {
+            degree--;
+        }
+    }
+
+    // Grows the arrays (at least doubling them) so that they can hold a coefficient of x^degree
+    // MODIFIES: this
+    // EFFECTS: Ensures the capacity
+    private void ensureCapacity(int degree) {
+        if (degree < numerators.length) {
+            return;
+        }
+
+        int capacity = Math.max(degree + 1, 2 * numerators.length);
+        numerators = Arrays.copyOf(numerators, capacity);
+        denominators = Arrays.copyOf(denominators, capacity);
+        if (bigNumerators != null) {
+            bigNumerators = Arrays.copyOf(bigNumerators, capacity);
+            bigDenominators = Arrays.copyOf(bigDenominators, capacity);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package model;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/*
+ * Isolates the real roots of an integer polynomial exactly with the Vincent-Collins-Akritas method
+ * (https://en.wikipedia.org/wiki/Real-root_isolation#Bisection_method).
+ * The positive roots are scaled into (0, 1), and then intervals are bisected until Descartes' rule of signs
+ * shows that each holds zero or one root. Every step is a Taylor shift or a scaling by a power of two on
+ * integer coefficients, so there's no rounding error; the resulting intervals have dyadic rational endpoints.
+ * The two halves of each bisection are independent, so a parallel isolator forks them as tasks in the current
+ * ForkJoinPool while the polynomial is large enough to be worth it.
+ */
+public class DescartesIsolator {
+    private static final int MIN_PARALLEL_DEGREE = 32; // smaller bisections aren't worth the overhead of forking
+
+    private final boolean isParallel;
+
+    /*
+     * Isolates the roots of q within (0, 1) as a task, like isolateUnitRoots of a parallel isolator (the only kind
+     * that forks these tasks)
+     */
+    private static class UnitRootsTask extends RecursiveTask<List<IsolatingInterval>> {
+        private static final long serialVersionUID = 1L;
+
+        private final BigInteger[] q;
+        private final BigInteger c;
+        private final int depth;
+
+        // EFFECTS: constructs the task for q on (c / 2^depth, (c + 1) / 2^depth)
+        private UnitRootsTask(BigInteger[] q, BigInteger c, int depth) {
+            this.q = q;
+            this.c = c;
+            this.depth = depth;
+        }
+
+        // EFFECTS: Returns the isolating intervals in increasing order
+        @Override
+        protected List<IsolatingInterval> compute() {
+            List<IsolatingInterval> intervals = new ArrayList<>();
+            new DescartesIsolator(true).isolateUnitRoots(intervals, q, c, depth);
+            return intervals;
+        }
+    }
+
+    // Constructs an isolator that runs on the calling thread
+    // EFFECTS: Constructs a sequential isolator
+    public DescartesIsolator() {
+        this(false);
+    }
+
+    // Constructs an isolator, which forks its bisections as tasks when it's parallel
+    // REQUIRES: if it's parallel, isolateRoots is called from within a ForkJoinPool
+    // EFFECTS: Constructs an isolator
+    public DescartesIsolator(boolean isParallel) {
+        this.isParallel = isParallel;
+    }
+
+    // Isolates the real roots of the polynomial into disjoint intervals that each hold exactly one root
+    // REQUIRES: square-free polynomial of degree >= 1
+    // EFFECTS: Returns the isolating intervals in increasing order
+    public List<IsolatingInterval> isolateRoots(BigInteger[] p) {
+        List<IsolatingInterval> intervals = new ArrayList<>();
+
+        // the negative and positive roots are independent, so a parallel isolator finds them at the same time
+        ForkJoinTask<List<IsolatingInterval>> negativeTask =
+                ForkJoinTask.adapt(() -> isolatePositiveRoots(ZMathUtil.getRootsNegated(p)));
+        if (isParallel) {
+            negativeTask.fork();
+        }
+        List<IsolatingInterval> positiveIntervals = isolatePositiveRoots(p);
+
+        List<IsolatingInterval> negativeIntervals = isParallel ? negativeTask.join() : negativeTask.invoke();
+        Collections.reverse(negativeIntervals);
+        for (IsolatingInterval interval : negativeIntervals) {
+            intervals.add(interval.getNegation());
+        }
+
+        if (p[0].signum() == 0) {
+            intervals.add(new IsolatingInterval(BigInteger.ZERO, BigInteger.ZERO, 0));
+        }
+        intervals.addAll(positiveIntervals);
+        return intervals;
+    }
+
+    // Isolates the positive roots of the polynomial; since all roots are within the root bound 2^k,
+    // the roots of q(x) = p(2^k x) are all within (0, 1)
+    // EFFECTS: Returns the isolating intervals of the positive roots in increasing order
+    private List<IsolatingInterval> isolatePositiveRoots(BigInteger[] p) {
+        List<IsolatingInterval> intervals = new ArrayList<>();
+        p = removeZeroRoot(p);
+        if (p.length <= 1) {
+            return intervals;
+        }
+
+        int boundExponent = Math.max(0, Math.getExponent(ZMathUtil.getRootBound(p)) + 1);
+        List<IsolatingInterval> unitIntervals = new ArrayList<>();
+        isolateUnitRoots(unitIntervals, ZMathUtil.getRootsScaled(p, -boundExponent), BigInteger.ZERO, 0);
+
+        // scale the intervals of (0, 1) back up by 2^k
+        for (IsolatingInterval interval : unitIntervals) {
+            int exponent = interval.getExponent() - boundExponent;
+            intervals.add(exponent >= 0 ? new IsolatingInterval(interval.getLeftNumerator(),
+                    interval.getRightNumerator(), exponent)
+                    : new IsolatingInterval(interval.getLeftNumerator().shiftLeft(-exponent),
+                    interval.getRightNumerator().shiftLeft(-exponent), 0));
+        }
+        return intervals;
+    }
+
+    // Isolates the roots of q within (0, 1), where q is the polynomial restricted to the interval
+    // (c / 2^depth, (c + 1) / 2^depth) and scaled to (0, 1)
+    // MODIFIES: intervals
+    // EFFECTS: Adds the isolating intervals in increasing order
+    private void isolateUnitRoots(List<IsolatingInterval> intervals, BigInteger[] q, BigInteger c, int depth) {
+        if (q[0].signum() == 0) { // the left endpoint is an exact root
+            intervals.add(new IsolatingInterval(c, c, depth));
+            q = removeZeroRoot(q);
+        }
+
+        // the number of roots in (0, 1) is bounded by the sign variations of (x + 1)^n q(1 / (x + 1))
+        int variations = ZMathUtil.countSignVariations(ZMathUtil.getTaylorShift(ZMathUtil.getReciprocal(q)));
+        if (variations == 1) {
+            intervals.add(new IsolatingInterval(c, c.add(BigInteger.ONE), depth));
+        } else if (variations > 1) {
+            bisect(intervals, q, c, depth);
+        }
+    }
+
+    // Isolates the roots of q in each half of (0, 1), forking the left half as a task if it's parallel
+    // MODIFIES: intervals
+    // EFFECTS: Adds the isolating intervals in increasing order
+    private void bisect(List<IsolatingInterval> intervals, BigInteger[] q, BigInteger c, int depth) {
+        BigInteger[] leftHalf = ZMathUtil.getRootsScaled(q, 1);
+        BigInteger[] rightHalf = ZMathUtil.getTaylorShift(leftHalf);
+        if (isParallel && ZMathUtil.getDegree(q) >= MIN_PARALLEL_DEGREE) {
+            UnitRootsTask leftTask = new UnitRootsTask(leftHalf, c.shiftLeft(1), depth + 1);
+            leftTask.fork();
+            List<IsolatingInterval> rightIntervals = new ArrayList<>();
+            isolateUnitRoots(rightIntervals, rightHalf, c.shiftLeft(1).add(BigInteger.ONE), depth + 1);
+            intervals.addAll(leftTask.join());
+            intervals.addAll(rightIntervals);
+        } else {
+            isolateUnitRoots(intervals, leftHalf, c.shiftLeft(1), depth + 1);
+            isolateUnitRoots(intervals, rightHalf, c.shiftLeft(1).add(BigInteger.ONE), depth + 1);
+        }
+    }
+
+    // EFFECTS: Returns p / x^k, where x^k is the largest power of x that divides p
+    private static BigInteger[] removeZeroRoot(BigInteger[] p) {
+        int lowest = 0;
+        while (lowest < p.length && p[lowest].signum() == 0) {
+            lowest++;
+        }
+
+        BigInteger[] reduced = new BigInteger[p.length - lowest];
+        System.arraycopy(p, lowest, reduced, 0, reduced.length);
+        return reduced;
+    }
+}
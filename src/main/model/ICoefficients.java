@@ -0,0 +1,39 @@
+package model;
+
+import java.util.List;
+
+/*
+ * The interface for defining a store for the coefficients of a polynomial, keyed by degree
+ */
+public interface ICoefficients {
+    // EFFECTS: Returns the degree of the highest non-zero coefficient (-1 for the zero polynomial)
+    int getDegree();
+
+    // EFFECTS: Returns the number of non-zero coefficients
+    int size();
+
+    // EFFECTS: Returns whether the coefficient of x^degree is zero
+    boolean isZero(int degree);
+
+    // EFFECTS: Returns a copy of the term of x^degree (zero if there isn't one)
+    Term get(int degree);
+
+    // MODIFIES: this
+    // EFFECTS: Adds the term to the coefficient of its degree, dropping it if they cancel out
+    void add(Term term);
+
+    // MODIFIES: this
+    // REQUIRES: terms in ascending order of degree, with no two of the same degree
+    // EFFECTS: Adds the terms
+    void addAll(List<Term> orderedTerms);
+
+    // EFFECTS: Returns copies of the non-zero terms in ascending order of degree
+    List<Term> getTerms();
+
+    // EFFECTS: Evaluates the polynomial at point x and returns the result
+    double evaluateAtPoint(double point);
+
+    // MODIFIES: this
+    // EFFECTS: Removes all coefficients
+    void clear();
+}
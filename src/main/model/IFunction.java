@@ -11,4 +11,13 @@ public interface IFunction {
 
     // EFFECTS: Evaluates IFunction at point x and return result
     double evaluateAtPoint(double point);
+
+    // REQUIRES: results.length >= points.length
+    // MODIFIES: results
+    // EFFECTS: Evaluates IFunction at each point, storing the result at the same index
+    default void evaluateAtPoints(double[] points, double[] results) {
+        for (int i = 0; i < points.length; i++) {
+            results[i] = evaluateAtPoint(points[i]);
+        }
+    }
 }
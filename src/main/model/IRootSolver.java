@@ -0,0 +1,13 @@
+package model;
+
+import java.util.List;
+
+/*
+ * The interface for defining a numerical method that finds all complex roots of a polynomial at once
+ */
+public interface IRootSolver {
+    // REQUIRES: coefficients indexed by degree, with a non-zero leading coefficient
+    // EFFECTS: Returns all complex roots in ascending order, listed once per multiplicity; throws
+    //          ArithmeticException if they can't be found in doubles
+    List<ComplexRoot> solve(double[] coefficients);
+}
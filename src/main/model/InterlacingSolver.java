@@ -0,0 +1,211 @@
+package model;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/*
+ * Finds the real roots of an integer polynomial from the real roots of its derivative: between consecutive
+ * critical points, p is monotone, so each of those intervals (and the two outer ones out to the root bound) holds
+ * at most one root of p, which is there if and only if p has opposite signs at its ends. The critical points are
+ * found the same way from the roots of p'', and so on down to a linear polynomial, which takes O(n^2) evaluations
+ * in all. Each root is refined with the bracketed, safeguarded Newton method of RootRefiner.
+ * The root bound of p bounds the roots of every derivative as well (by the Gauss-Lucas theorem), so it's shared.
+ * The critical points are never rounded: each is kept as a bracket with a certified sign change of the derivative,
+ * which is bisected until the sign of p at the extremum inside is certain (see addSamplesAroundExtremum). Every sign
+ * is certified with an AdaptiveEvaluator, so no root is ever dropped; roots closer to an extremum than doubles can
+ * resolve are isolated exactly by DescartesIsolator instead.
+ * A solver can be seeded with the roots of the derivative when they're known anyway (see PolynomialAnalysis), which
+ * skips the recursion, and with them the roots of every factor of the polynomial are isolated in one pass.
+ */
+public class InterlacingSolver {
+    private final List<double[]> rootBrackets; // the brackets of the roots of the seeded polynomial, or null
+
+    // Constructs a solver that finds the roots of each polynomial from scratch
+    // EFFECTS: Constructs an unseeded solver
+    public InterlacingSolver() {
+        rootBrackets = null;
+    }
+
+    // Constructs a solver seeded with the polynomial and the real roots of its derivative, which are bracketed
+    // (see RootRefiner.bracketRoots) rather than trusted as they are. The roots of the polynomial are isolated once,
+    // and the roots of each factor are then picked out of their brackets, since each holds exactly one root of the
+    // polynomial. If the polynomial isn't square-free, or some root can't be isolated, the solver is unseeded
+    // REQUIRES: polynomial of degree >= 1, and the distinct real roots of its derivative in increasing order
+    // EFFECTS: Constructs a seeded solver
+    public InterlacingSolver(BigInteger[] p, double[] criticalPoints) {
+        boolean isSquareFree = ZMathUtil.getDegree(ZMathUtil.getSquareFreePart(p)) == ZMathUtil.getDegree(p);
+        rootBrackets = isSquareFree ? isolateRoots(p, criticalPoints) : null;
+    }
+
+    // Finds the real roots of the polynomial, from the seeded roots if there are any
+    // REQUIRES: square-free polynomial of degree >= 1, which divides the seeded polynomial if there is one
+    // EFFECTS: Returns the distinct real roots in increasing order
+    public double[] findRealRoots(BigInteger[] p) {
+        return refineRoots(p, rootBrackets == null ? isolateRoots(p, ZMathUtil.getRootBound(p)) : getFactorBrackets(p));
+    }
+
+    // Picks out the brackets of the seeded roots that are roots of the factor: a root of the factor is simple, so
+    // the factor changes sign across its bracket (or is zero at an exact root), and it has no other root there
+    // REQUIRES: square-free factor of the seeded polynomial
+    // EFFECTS: Returns the brackets of the roots of the factor in increasing order
+    private List<double[]> getFactorBrackets(BigInteger[] factor) {
+        AdaptiveEvaluator evaluator = new AdaptiveEvaluator(factor);
+        List<double[]> brackets = new ArrayList<>();
+        for (double[] bracket : rootBrackets) {
+            int leftSign = evaluator.getSign(bracket[0]);
+            if (bracket[0] == bracket[1] ? leftSign == 0 : leftSign * evaluator.getSign(bracket[1]) < 0) {
+                brackets.add(bracket);
+            }
+        }
+        return brackets;
+    }
+
+    // Isolates the real roots of the polynomial from the real roots of its derivative, which are bracketed first;
+    // if they can't be, or there are fewer brackets than the Sturm sequence counts, they're found from scratch
+    // REQUIRES: square-free polynomial of degree >= 1, and the distinct real roots of its derivative in increasing
+    //           order
+    // EFFECTS: Returns the brackets of the roots in increasing order, or null if some root is too close to an
+    //          extremum to tell apart in doubles
+    private static List<double[]> isolateRoots(BigInteger[] p, double[] criticalPoints) {
+        double bound = ZMathUtil.getRootBound(p);
+        BigInteger[] derivative = ZMathUtil.getDerivative(p);
+        double[][] criticalBrackets = ZMathUtil.getDegree(p) == 1 ? new double[0][]
+                : new RootRefiner(ZMathUtil.getSquareFreePart(derivative)).bracketRoots(criticalPoints, bound);
+        if (criticalBrackets == null || ZMathUtil.getDegree(p) > 1
+                && criticalBrackets.length != new SturmSequence(derivative).countRealRoots()) {
+            return isolateRoots(p, bound);
+        }
+        return isolateRootsBetween(p, derivative, Arrays.asList(criticalBrackets), bound);
+    }
+
+    // Isolates the distinct real roots of the polynomial within the bound, recursing on the derivative for the
+    // critical points. The derivatives aren't reduced to their square-free parts, which would take a gcd per level:
+    // a root of even multiplicity touches zero without a sign change, and is only found if a sample lands on it
+    // exactly, but then it's also an extremum that can never be certified, so the isolation gives up on it
+    // REQUIRES: polynomial of degree >= 1, whose roots are all within (-bound, bound)
+    // EFFECTS: Returns the {left, right} brackets of the roots in increasing order (with left == right for an exact
+    //          root), or null if some root is too close to an extremum to tell apart in doubles
+    private static List<double[]> isolateRoots(BigInteger[] p, double bound) {
+        BigInteger[] derivative = ZMathUtil.getDerivative(p);
+        List<double[]> criticalBrackets = new ArrayList<>();
+        if (ZMathUtil.getDegree(p) >= 2) {
+            criticalBrackets = isolateRoots(derivative, bound);
+        }
+        return criticalBrackets == null ? null : isolateRootsBetween(p, derivative, criticalBrackets, bound);
+    }
+
+    // Isolates the roots of the polynomial from the brackets of its critical points: sample points are chosen
+    // such that each root is either a sample point, or the only root between two consecutive sample points, with
+    // a sign change between them
+    // REQUIRES: polynomial of degree >= 1, and disjoint brackets in increasing order that each hold exactly one
+    //           distinct root of its derivative (with a sign change, or as both ends), within (-bound, bound)
+    // EFFECTS: Returns the brackets of the roots in increasing order, or null if some root is too close to an
+    //          extremum to tell apart in doubles
+    private static List<double[]> isolateRootsBetween(BigInteger[] p, BigInteger[] derivative,
+                                                      List<double[]> criticalBrackets, double bound) {
+        AdaptiveEvaluator evaluator = new AdaptiveEvaluator(p);
+        AdaptiveEvaluator derivativeEvaluator = new AdaptiveEvaluator(derivative);
+        Map<Double, Integer> samples = new TreeMap<>(); // the sign of p at each sample point, in increasing order
+        addSample(samples, -bound, evaluator);
+        addSample(samples, bound, evaluator);
+        for (double[] bracket : criticalBrackets) {
+            addSample(samples, bracket[0], evaluator);
+            addSample(samples, bracket[1], evaluator);
+            if (bracket[0] < bracket[1]
+                    && !addSamplesAroundExtremum(samples, bracket[0], bracket[1], evaluator, derivativeEvaluator)) {
+                return null;
+            }
+        }
+        return getRootBrackets(samples);
+    }
+
+    // Adds sample points within [left, right], which holds a single critical point c, so that p has a root between
+    // two consecutive sample points around c if and only if it has a sign change between them. If c is an extremum,
+    // that's so once p has the sign of p(c) at a sample point (i.e. positive for a maximum), or once p can't reach
+    // zero around c; until then, the half of the bracket away from c is monotone, and can be dropped
+    // REQUIRES: left < right, and the derivative has a sign change within [left, right] or is zero at an end
+    // MODIFIES: samples
+    // EFFECTS: Adds the sample points, and returns false if the extremum is too close to a root to tell apart
+    private static boolean addSamplesAroundExtremum(Map<Double, Integer> samples, double left, double right,
+                                                    AdaptiveEvaluator evaluator,
+                                                    AdaptiveEvaluator derivativeEvaluator) {
+        left += 0.0; // the sample point of -0.0 is 0.0
+        right += 0.0;
+        int extremumSign = derivativeEvaluator.getSign(left); // 1 for a maximum, -1 for a minimum
+        if (extremumSign == derivativeEvaluator.getSign(right)) {
+            return true; // p is monotone across the bracket
+        }
+
+        while (!isSettled(samples.get(left), samples.get(right), extremumSign)) {
+            double middle = left / 2 + right / 2 + 0.0;
+            if (middle <= left || middle >= right) {
+                return false;
+            }
+            int middleSign = addSample(samples, middle, evaluator);
+            int middleSlope = derivativeEvaluator.getSign(middle);
+            if (middleSign == extremumSign || middleSlope == 0
+                    || middleSign == -extremumSign && evaluator.isRootFree(left, right)) {
+                return true;
+            } else if (middleSlope == extremumSign) {
+                left = middle;
+            } else {
+                right = middle;
+            }
+        }
+        return true;
+    }
+
+    // EFFECTS: Returns whether the signs of p at the ends of a bracket around an extremum settle whether p has roots
+    //          around it, i.e. p has the sign of the extremum at an end, or is zero at both
+    private static boolean isSettled(int leftSign, int rightSign, int extremumSign) {
+        return leftSign == extremumSign || rightSign == extremumSign || leftSign == 0 && rightSign == 0;
+    }
+
+    // MODIFIES: samples
+    // EFFECTS: Adds the sample point if it's new, and returns the sign of p there
+    private static int addSample(Map<Double, Integer> samples, double point, AdaptiveEvaluator evaluator) {
+        return samples.computeIfAbsent(point + 0.0, evaluator::getSign); // -0.0 is the same point as 0.0
+    }
+
+    // EFFECTS: Returns the brackets of the roots at and between the sample points, in increasing order
+    private static List<double[]> getRootBrackets(Map<Double, Integer> samples) {
+        List<double[]> brackets = new ArrayList<>();
+        double previous = Double.NaN;
+        int previousSign = 0;
+        for (Map.Entry<Double, Integer> sample : samples.entrySet()) {
+            if (sample.getValue() == 0) {
+                brackets.add(new double[] {sample.getKey(), sample.getKey()});
+            } else if (previousSign * sample.getValue() < 0) {
+                brackets.add(new double[] {previous, sample.getKey()});
+            }
+            previous = sample.getKey();
+            previousSign = sample.getValue();
+        }
+        return brackets;
+    }
+
+    // Refines the root in each bracket; if there are no brackets, the roots are isolated exactly instead
+    // REQUIRES: square-free polynomial of degree >= 1
+    // EFFECTS: Returns the refined roots in increasing order
+    private static double[] refineRoots(BigInteger[] p, List<double[]> brackets) {
+        RootRefiner rootRefiner = new RootRefiner(p);
+        if (brackets == null) {
+            brackets = new ArrayList<>();
+            for (IsolatingInterval interval : new DescartesIsolator().isolateRoots(p)) {
+                brackets.add(new double[] {interval.getLeft(), interval.isExactRoot() ? interval.getLeft()
+                        : interval.getRight()});
+            }
+        }
+
+        double[] roots = new double[brackets.size()];
+        for (int i = 0; i < roots.length; i++) {
+            double[] bracket = brackets.get(i);
+            roots[i] = bracket[0] == bracket[1] ? bracket[0] : rootRefiner.refine(bracket[0], bracket[1]).getValue();
+        }
+        return roots;
+    }
+}
@@ -0,0 +1,65 @@
+package model;
+
+import java.math.BigInteger;
+
+/*
+ * Represents an interval with dyadic rational endpoints (a / 2^k, b / 2^k) that contains exactly one real root.
+ * If both endpoints are the same, the interval is the exact root itself.
+ */
+public class IsolatingInterval {
+    private final BigInteger leftNumerator;
+    private final BigInteger rightNumerator;
+    private final int exponent;
+
+    // Constructs an isolating interval
+    // REQUIRES: leftNumerator <= rightNumerator, exponent >= 0
+    // EFFECTS: Constructs the interval (leftNumerator / 2^exponent, rightNumerator / 2^exponent)
+    public IsolatingInterval(BigInteger leftNumerator, BigInteger rightNumerator, int exponent) {
+        this.leftNumerator = leftNumerator;
+        this.rightNumerator = rightNumerator;
+        this.exponent = exponent;
+    }
+
+    public BigInteger getLeftNumerator() {
+        return leftNumerator;
+    }
+
+    public BigInteger getRightNumerator() {
+        return rightNumerator;
+    }
+
+    public int getExponent() {
+        return exponent;
+    }
+
+    // EFFECTS: Returns the left endpoint, rounded to the nearest double
+    public double getLeft() {
+        return Math.scalb(leftNumerator.doubleValue(), -exponent);
+    }
+
+    // EFFECTS: Returns the right endpoint, rounded to the nearest double
+    public double getRight() {
+        return Math.scalb(rightNumerator.doubleValue(), -exponent);
+    }
+
+    // EFFECTS: Returns whether the interval is a single point, i.e. the exact root
+    public boolean isExactRoot() {
+        return leftNumerator.equals(rightNumerator);
+    }
+
+    // EFFECTS: Returns the interval mirrored around zero, (-right, -left)
+    public IsolatingInterval getNegation() {
+        return new IsolatingInterval(rightNumerator.negate(), leftNumerator.negate(), exponent);
+    }
+
+    // Overriding toString() method of String class
+    // EFFECTS: Returns the interval as (a/2^k, b/2^k)
+    @Override
+    public String toString() {
+        String denominator = exponent > 0 ? "/" + BigInteger.ONE.shiftLeft(exponent) : "";
+        if (isExactRoot()) {
+            return "[" + leftNumerator + denominator + "]";
+        }
+        return "(" + leftNumerator + denominator + ", " + rightNumerator + denominator + ")";
+    }
+}
@@ -1,26 +1,121 @@
 package model;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 /*
  * The math utility class for natural numbers N
+ * Numbers are factored with a table of smallest prime factors (a sieve, grown as needed) when they're small enough,
+ * and otherwise with trial division by the small primes followed by Pollard's rho algorithm
+ * (https://en.wikipedia.org/wiki/Pollard%27s_rho_algorithm) for what's left. The factorizations of recently
+ * factored numbers are cached, since the same coefficients tend to be factored over and over.
+ * It's safe to call from several threads: only the cache and the growth of the sieve are locked, so numbers are
+ * factored and tested for primality in parallel.
  */
 public final class NMathUtil {
+    private static final int MAX_SIEVE_SIZE = 1 << 20;          // 4 MB of smallest prime factors at most
+    private static final int TRIAL_DIVISION_LIMIT = 1 << 12;    // larger factors are left to Pollard's rho
+    private static final long MAX_SQUARABLE = 3037000499L;      // the largest long whose square fits in a long
+    private static final int MAX_CACHED_FACTORIZATIONS = 256;
+    // Miller-Rabin with these bases is deterministic for every long (https://oeis.org/A014233)
+    private static final long[] MILLER_RABIN_BASES = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37};
+
+    // replaced (never modified) when it grows, so it's read without a lock
+    private static volatile int[] smallestPrimeFactors = new int[0];
+    private static final Map<Long, SortedMap<Long, Integer>> FACTORIZATIONS = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, SortedMap<Long, Integer>> eldest) {
+            return size() > MAX_CACHED_FACTORIZATIONS;
+        }
+    };
 
     // Returns the factors for a positive integer (i.e. 6 has factors of [1,2,3,6]
     // REQUIRES: positive integer (a >= 0)
-    // EFFECTS: Returns the factors
+    // EFFECTS: Returns the factors; throws IllegalArgumentException if a < 0
     public static List<Integer> getFactors(int a) {
+        if (a < 0) {
+            throw new IllegalArgumentException("Can't factor a negative number: " + a);
+        }
+
         List<Integer> factors = new ArrayList<>();
+        if (a == 0) {
+            return factors;
+        }
 
-        for (int i = 1; i <= a; i++) {
-            if (a % i == 0) {
-                factors.add(i);
+        for (long divisor : getDivisors(a)) {
+            factors.add((int) divisor);
+        }
+        return factors;
+    }
+
+    // Returns the divisors of a positive integer in increasing order, enumerated from its prime factorization
+    // (i.e. 12 = 2^2 * 3 has divisors 2^i * 3^j for i <= 2 and j <= 1)
+    // REQUIRES: a >= 1
+    // EFFECTS: Returns the divisors
+    public static List<Long> getDivisors(long a) {
+        List<Long> divisors = new ArrayList<>();
+        divisors.add(1L);
+        for (Map.Entry<Long, Integer> primePower : getPrimeFactorization(a).entrySet()) {
+            int size = divisors.size();
+            long power = 1;
+            for (int exponent = 1; exponent <= primePower.getValue(); exponent++) {
+                power *= primePower.getKey();
+                for (int i = 0; i < size; i++) {
+                    divisors.add(divisors.get(i) * power);
+                }
             }
         }
 
-        return factors;
+        Collections.sort(divisors);
+        return divisors;
+    }
+
+    // Returns the prime factorization of a positive integer as a map from each prime to its exponent
+    // (i.e. 360 = 2^3 * 3^2 * 5 gives {2=3, 3=2, 5=1}), reusing it if it was recently computed
+    // REQUIRES: a >= 1
+    // EFFECTS: Returns the prime factorization, which can't be modified; throws IllegalArgumentException if a < 1,
+    //          since Pollard's rho would never split it
+    public static SortedMap<Long, Integer> getPrimeFactorization(long a) {
+        if (a < 1) {
+            throw new IllegalArgumentException("Can't factor a non-positive number: " + a);
+        }
+
+        SortedMap<Long, Integer> factorization;
+        synchronized (FACTORIZATIONS) {
+            factorization = FACTORIZATIONS.get(a);
+        }
+        if (factorization == null) {
+            // factored outside the lock; two threads may both factor a, but they get the same answer
+            factorization = new TreeMap<>();
+            addLargePrimeFactors(addSmallPrimeFactors(a, factorization), factorization);
+            factorization = Collections.unmodifiableSortedMap(factorization);
+            synchronized (FACTORIZATIONS) {
+                FACTORIZATIONS.put(a, factorization);
+            }
+        }
+        return factorization;
+    }
+
+    // Returns whether the number is prime, with the sieve if it covers the number and Miller-Rabin otherwise
+    // EFFECTS: Returns whether the number is prime
+    public static boolean isPrime(long a) {
+        if (a < 2) {
+            return false;
+        } else if (a < MAX_SIEVE_SIZE) {
+            return getSieve((int) a + 1)[(int) a] == a;
+        }
+
+        for (long base : MILLER_RABIN_BASES) {
+            if (a % base == 0 || !isStrongProbablePrime(a, base)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     // Returns the largest factorable square number from integer
@@ -28,15 +123,15 @@ public final class NMathUtil {
     // REQUIRES: positive integer (a >= 0); negative numbers will just return 1
     // EFFECTS: Returns the largest factorable square number from integer
     public static int getLargestFactorableSquare(int a) {
-        int result = 1;
-        int n = 2;
+        if (a <= 0) {
+            return 1;
+        }
 
-        while (n * n <= a) {
-            while (a % (n * n) == 0) {
-                result *= n;
-                a /= n * n;
+        int result = 1;
+        for (Map.Entry<Long, Integer> primePower : getPrimeFactorization(a).entrySet()) {
+            for (int i = 0; i < primePower.getValue() / 2; i++) {
+                result *= primePower.getKey();
             }
-            n++;
         }
         return result;
     }
@@ -50,22 +145,222 @@ public final class NMathUtil {
         return a / NMathUtil.getGCD(a,b) * b;
     }
 
-    // Returns the greatest common divisor of two numbers.
-    // Code is based on a subtraction-based implementation of the Euclid's Algorithm (https://en.wikipedia.org/wiki/Euclidean_algorithm)
+    // Returns the greatest common divisor of two numbers (1 if either is 0).
+    // Code is based on the binary GCD algorithm (https://en.wikipedia.org/wiki/Binary_GCD_algorithm)
     // REQUIRES: two positive integers (a >= 0; b >= 0)
     // EFFECTS: Returns the greatest common divisor
     public static int getGCD(int a, int b) {
+        return (int) getGCD((long) a, b);
+    }
+
+    // Returns the greatest common divisor of two numbers, with the same conventions as getGCD(int, int)
+    // REQUIRES: two positive integers (a >= 0; b >= 0)
+    // EFFECTS: Returns the greatest common divisor
+    public static long getGCD(long a, long b) {
         if (a == 0 || b == 0) {
             return 1;
         }
+        return getBinaryGCD(a, b);
+    }
 
-        while (a != b) {
+    // Returns the greatest common divisor with the binary GCD algorithm, which replaces division by shifts
+    // and subtraction: common factors of 2 are set aside, and the larger odd number is replaced by the difference
+    // REQUIRES: a >= 0; b >= 0
+    // EFFECTS: Returns the greatest common divisor, where gcd(a, 0) = a
+    private static long getBinaryGCD(long a, long b) {
+        if (a == 0 || b == 0) {
+            return a | b;
+        }
+
+        int shift = Long.numberOfTrailingZeros(a | b);
+        a >>= Long.numberOfTrailingZeros(a);
+        while (b != 0) {
+            b >>= Long.numberOfTrailingZeros(b);
             if (a > b) {
-                a -= b;
-            } else {
-                b -= a;
+                long temp = a;
+                a = b;
+                b = temp;
+            }
+            b -= a;
+        }
+        return a << shift;
+    }
+
+    // Adds the prime factors of a that the sieve covers (all of them if a is small enough, and otherwise
+    // the ones below the trial division limit)
+    // MODIFIES: factorization
+    // EFFECTS: Adds the small prime factors and returns what's left of a once they're divided out
+    private static long addSmallPrimeFactors(long a, SortedMap<Long, Integer> factorization) {
+        if (a < MAX_SIEVE_SIZE) {
+            int[] sieve = getSieve((int) a + 1);
+            while (a > 1) {
+                a = divideOut(a, sieve[(int) a], factorization);
+            }
+            return a;
+        }
+
+        int[] sieve = getSieve(TRIAL_DIVISION_LIMIT);
+        for (int i = 2; i < TRIAL_DIVISION_LIMIT && (long) i * i <= a; i++) {
+            if (sieve[i] == i && a % i == 0) {
+                a = divideOut(a, i, factorization);
+            }
+        }
+        return a;
+    }
+
+    // Adds the prime factors of a by splitting it with Pollard's rho algorithm until every part is prime
+    // REQUIRES: a has no prime factors below the trial division limit (or is 1)
+    // MODIFIES: factorization
+    // EFFECTS: Adds the prime factors
+    private static void addLargePrimeFactors(long a, SortedMap<Long, Integer> factorization) {
+        if (a == 1) {
+            return;
+        } else if (isPrime(a)) {
+            factorization.merge(a, 1, Integer::sum);
+            return;
+        }
+
+        long factor = findFactor(a);
+        addLargePrimeFactors(factor, factorization);
+        addLargePrimeFactors(a / factor, factorization);
+    }
+
+    // Finds a non-trivial factor with Pollard's rho algorithm: x -> x^2 + c (mod a) eventually cycles mod
+    // any prime factor p long before it does mod a, which shows up as gcd(x - y, a) > 1 for Floyd's tortoise x
+    // and hare y. If the gcd is a itself, the cycles coincided, so it tries again with another c
+    // REQUIRES: a is odd and composite
+    // EFFECTS: Returns a factor of a other than 1 and a
+    private static long findFactor(long a) {
+        for (long c = 1; ; c++) {
+            long x = 2;
+            long y = 2;
+            long divisor = 1;
+            while (divisor == 1) {
+                x = getNextRhoValue(x, c, a);
+                y = getNextRhoValue(getNextRhoValue(y, c, a), c, a);
+                divisor = getBinaryGCD(Math.abs(x - y), a);
+            }
+            if (divisor != a) {
+                return divisor;
+            }
+        }
+    }
+
+    // EFFECTS: Returns x^2 + c (mod m)
+    private static long getNextRhoValue(long x, long c, long m) {
+        return addModulo(multiplyModulo(x, x, m), c % m, m);
+    }
+
+    // Returns whether a passes the strong probable prime test of Miller-Rabin to the base,
+    // i.e. with a - 1 = 2^s d for odd d, base^d = 1 or base^(2^r d) = -1 (mod a) for some r < s
+    // REQUIRES: a is odd, and doesn't divide the base
+    // EFFECTS: Returns whether a is a strong probable prime to the base
+    private static boolean isStrongProbablePrime(long a, long base) {
+        int s = Long.numberOfTrailingZeros(a - 1);
+        long x = powerModulo(base, (a - 1) >> s, a);
+        if (x == 1 || x == a - 1) {
+            return true;
+        }
+
+        for (int r = 1; r < s; r++) {
+            x = multiplyModulo(x, x, a);
+            if (x == a - 1) {
+                return true;
             }
         }
+        return false;
+    }
+
+    // EFFECTS: Returns base^exponent (mod m) by squaring
+    private static long powerModulo(long base, long exponent, long m) {
+        long result = 1;
+        base %= m;
+        while (exponent > 0) {
+            if ((exponent & 1) != 0) {
+                result = multiplyModulo(result, base, m);
+            }
+            base = multiplyModulo(base, base, m);
+            exponent >>= 1;
+        }
+        return result;
+    }
+
+    // Returns ab (mod m) without overflowing, by doubling and adding when ab doesn't fit in a long
+    // REQUIRES: 0 <= a < m; 0 <= b < m
+    // EFFECTS: Returns ab (mod m)
+    private static long multiplyModulo(long a, long b, long m) {
+        if (m <= MAX_SQUARABLE) {
+            return a * b % m;
+        }
+
+        long result = 0;
+        while (b > 0) {
+            if ((b & 1) != 0) {
+                result = addModulo(result, a, m);
+            }
+            a = addModulo(a, a, m);
+            b >>= 1;
+        }
+        return result;
+    }
+
+    // Returns a + b (mod m), where a + b overflowing a long means it's at least m anyways
+    // REQUIRES: 0 <= a < m; 0 <= b < m
+    // EFFECTS: Returns a + b (mod m)
+    private static long addModulo(long a, long b, long m) {
+        long sum = a + b;
+        return sum < 0 || sum >= m ? sum - m : sum;
+    }
+
+    // Divides out every power of the prime from a
+    // MODIFIES: factorization
+    // EFFECTS: Adds the prime's exponent and returns a with it divided out
+    private static long divideOut(long a, long prime, SortedMap<Long, Integer> factorization) {
+        int exponent = 0;
+        while (a % prime == 0) {
+            a /= prime;
+            exponent++;
+        }
+        factorization.merge(prime, exponent, Integer::sum);
         return a;
     }
+
+    // Returns the table of smallest prime factors, growing it first if it doesn't cover every number below size
+    // REQUIRES: size <= MAX_SIEVE_SIZE
+    // MODIFIES: smallestPrimeFactors
+    // EFFECTS: Returns a sieve that covers the size
+    private static int[] getSieve(int size) {
+        int[] current = smallestPrimeFactors;
+        return size <= current.length ? current : growSieve(size);
+    }
+
+    // Grows the table of smallest prime factors (at least doubling it) so that it covers every number below size,
+    // with a linear sieve (https://cp-algorithms.com/algebra/prime-sieve-linear.html); it's locked so that threads
+    // don't sieve at the same time, and does nothing if another thread already grew it far enough
+    // REQUIRES: size <= MAX_SIEVE_SIZE
+    // MODIFIES: smallestPrimeFactors
+    // EFFECTS: Returns a sieve that covers the size
+    private static synchronized int[] growSieve(int size) {
+        if (size <= smallestPrimeFactors.length) {
+            return smallestPrimeFactors;
+        }
+
+        int[] sieve = new int[Math.min(MAX_SIEVE_SIZE, Math.max(size, 2 * smallestPrimeFactors.length))];
+        List<Integer> primes = new ArrayList<>();
+        for (int i = 2; i < sieve.length; i++) {
+            if (sieve[i] == 0) {
+                sieve[i] = i;
+                primes.add(i);
+            }
+            // each composite is only marked once, by its smallest prime factor
+            for (int prime : primes) {
+                if (prime > sieve[i] || (long) i * prime >= sieve.length) {
+                    break;
+                }
+                sieve[i * prime] = prime;
+            }
+        }
+        smallestPrimeFactors = sieve;
+        return sieve;
+    }
 }
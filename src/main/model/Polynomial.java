@@ -1,26 +1,55 @@
 package model;
 
-import java.util.LinkedList;
+import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.DoubleUnaryOperator;
 
 /*
  * Represents the polynomial object and ways to operate on it
  */
 public class Polynomial implements IDerivable {
-    private final List<Term> orderedTerms;
+    // polynomials of lower degree are always dense, since the arrays are small anyways
+    private static final int MIN_SPARSE_DEGREE = 64;
+    // a dense polynomial becomes sparse once fewer than 1/8 of its coefficients are non-zero,
+    // and a sparse polynomial becomes dense once at least 1/4 are (the gap avoids switching back and forth)
+    private static final int SPARSE_FILL_RATIO = 8;
+    private static final int DENSE_FILL_RATIO = 4;
+
+    private ICoefficients coefficients;
+    private PolynomialEvaluator evaluator; // null until it's needed, and after every change
 
     // Constructs a polynomial
-    // EFFECTS: Constructs a polynomial with an empty linked list named `orderedTerms`
+    // EFFECTS: Constructs a polynomial with empty dense coefficients named `coefficients`
     public Polynomial() {
-        orderedTerms = new LinkedList<>();
+        coefficients = new DenseCoefficients();
     }
 
     // Constructs a term from string input
     // REQUIRES: string input that's consistent with toString method result
     // EFFECTS: Constructs a term equal to the constant 0
     public Polynomial(String polynomialStr) {
-        orderedTerms = new LinkedList<>();
+        coefficients = new DenseCoefficients();
+        addTermsFromString(polynomialStr);
+        EventLog.getInstance().logEvent(new Event("Created a new polynomial " + this));
+    }
+
+    // Parses a polynomial from string input without logging, for headless use where nobody reads the event log
+    // (which would otherwise grow with every polynomial)
+    // REQUIRES: string input that's consistent with toString method result
+    // EFFECTS: Returns the polynomial
+    public static Polynomial parse(String polynomialStr) {
+        Polynomial polynomial = new Polynomial();
+        polynomial.addTermsFromString(polynomialStr);
+        return polynomial;
+    }
+
+    // Adds the terms of the string input
+    // MODIFIES: this
+    // REQUIRES: string input that's consistent with toString method result
+    // EFFECTS: Adds the terms
+    private void addTermsFromString(String polynomialStr) {
         while (!Objects.equals(polynomialStr, "")) {
             if (polynomialStr.contains(" + ") || polynomialStr.contains(" - ")) {
                 String nextTermString = polynomialStr.split(" [+-] ")[0];
@@ -40,11 +69,10 @@ public class Polynomial implements IDerivable {
                 break;
             }
         }
-
-        EventLog.getInstance().logEvent(new Event("Created a new polynomial " + this));
     }
 
-    // Adds a term
+    // Adds a term, logging only the term: printing the whole polynomial every time would make building it term by
+    // term quadratic
     // MODIFIES: this
     // REQUIRES: term is non-zero (soft requirement)
     // EFFECTS: adds a new term to polynomial
@@ -54,64 +82,111 @@ public class Polynomial implements IDerivable {
         }
 
         addTermToList(term);
-        EventLog.getInstance().logEvent(new Event("Added " + term + " to polynomial (now " + this + ")"));
+        EventLog.getInstance().logEvent(new Event("Added " + term + " to polynomial"));
     }
 
-    // Adds a term to ordered terms list
+    // Adds a term to the coefficients, combining it with the term of the same degree (if any)
     // MODIFIES: this
-    // EFFECTS: Adds a term to ordered terms list
+    // EFFECTS: Adds a term to the coefficients
     private void addTermToList(Term term) {
-        // insert term at the correct position
-        for (int i = 0; i < orderedTerms.size(); i++) {
-            int degree = orderedTerms.get(i).getDegree();
-            if (term.getDegree() < degree) {
-                orderedTerms.add(i, term);
-                return;
-            } else if (term.getDegree() == degree) {
-                orderedTerms.get(i).combineTerm(term);
-
-                // check and remove if sum is zero
-                if (orderedTerms.get(i).isZero()) {
-                    orderedTerms.remove(i);
-                }
-                return;
-            }
+        evaluator = null;
+        int degree = Math.max(coefficients.getDegree(), term.getDegree());
+        if (coefficients instanceof DenseCoefficients && isSparse(coefficients.size() + 1, degree)) {
+            // switch before adding, so that the dense arrays never grow to a sparse degree
+            switchCoefficients(new SparseCoefficients());
         }
 
-        // if still didn't add, add to the "end"
-        orderedTerms.add(term);
+        coefficients.add(term);
+        if (coefficients instanceof SparseCoefficients && isDense(coefficients.size(), coefficients.getDegree())) {
+            switchCoefficients(new DenseCoefficients());
+        }
     }
 
-    // Evaluates the polynomial at point x
+    // Adds terms to the coefficients in a single pass, choosing the representation for the result up front
+    // MODIFIES: this
+    // REQUIRES: terms in ascending order of degree, with no two of the same degree
+    // EFFECTS: Adds the terms to the coefficients
+    private void addTermsToList(List<Term> orderedTerms) {
+        evaluator = null;
+        int degree = orderedTerms.isEmpty() ? -1 : orderedTerms.get(orderedTerms.size() - 1).getDegree();
+        degree = Math.max(coefficients.getDegree(), degree);
+        int size = coefficients.size() + orderedTerms.size();
+        if (coefficients instanceof DenseCoefficients && isSparse(size, degree)) {
+            switchCoefficients(new SparseCoefficients());
+        } else if (coefficients instanceof SparseCoefficients && isDense(size, degree)) {
+            switchCoefficients(new DenseCoefficients());
+        }
+
+        coefficients.addAll(orderedTerms);
+    }
+
+    // Moves the terms to the new coefficient store
+    // MODIFIES: this
+    // EFFECTS: Replaces the coefficient store
+    private void switchCoefficients(ICoefficients newCoefficients) {
+        newCoefficients.addAll(coefficients.getTerms());
+        coefficients = newCoefficients;
+    }
+
+    // EFFECTS: Returns whether a polynomial of the size and degree should be stored sparsely
+    private static boolean isSparse(int size, int degree) {
+        return degree >= MIN_SPARSE_DEGREE && (long) size * SPARSE_FILL_RATIO < degree + 1;
+    }
+
+    // EFFECTS: Returns whether a polynomial of the size and degree should be stored densely
+    private static boolean isDense(int size, int degree) {
+        return degree < MIN_SPARSE_DEGREE || (long) size * DENSE_FILL_RATIO >= degree + 1;
+    }
+
+    // Evaluates the polynomial at point x, with the evaluator snapshot unless it's sparse
     // EFFECTS: Returns the function result
     @Override
     public double evaluateAtPoint(double point) {
-        return evaluateAtPoint(point, this.orderedTerms);
+        if (coefficients instanceof SparseCoefficients) {
+            return coefficients.evaluateAtPoint(point);
+        }
+        return getEvaluator().evaluateAtPoint(point);
+    }
+
+    // Evaluates the polynomial at each point in one pass, with the evaluator snapshot unless it's sparse
+    // REQUIRES: results.length >= points.length
+    // MODIFIES: results
+    // EFFECTS: Stores the function result of each point at the same index
+    @Override
+    public void evaluateAtPoints(double[] points, double[] results) {
+        if (coefficients instanceof SparseCoefficients) {
+            IDerivable.super.evaluateAtPoints(points, results);
+        } else {
+            getEvaluator().evaluateAtPoints(points, results);
+        }
     }
 
     // Evaluates the polynomial at point x
     // EFFECTS: Returns the function result
     public static double evaluateAtPoint(double point, List<Term> orderedTerms) {
-        double sum = 0;
+        return new PolynomialEvaluator(orderedTerms).evaluateAtPoint(point);
+    }
 
-        for (Term term : orderedTerms) {
-            sum += term.evaluateAtPoint(point);
+    // Gets the evaluator snapshot of the polynomial, which is compiled once and reused until the polynomial changes
+    // EFFECTS: gets the evaluator
+    public PolynomialEvaluator getEvaluator() {
+        if (evaluator == null) {
+            evaluator = new PolynomialEvaluator(coefficients.getTerms());
         }
+        return evaluator;
+    }
 
-        return sum;
+    // Gets the polynomial compiled into its own class, for polynomials evaluated far more often than they change
+    // (see PolynomialCompiler). Like the evaluator, it doesn't change when the polynomial does
+    // EFFECTS: gets the compiled evaluator
+    public DoubleUnaryOperator getCompiledEvaluator() {
+        return PolynomialCompiler.compile(getEvaluator().getCoefficients());
     }
 
     // Gets the deep-copy of the terms
     // EFFECTS: gets the terms
     public List<Term> getTerms() {
-        List<Term> terms = new LinkedList<>();
-
-        // add the derivative of each term as long as they're not zero
-        for (Term term : orderedTerms) {
-            terms.add(term.createCopy());
-        }
-
-        return terms;
+        return coefficients.getTerms();
     }
 
     // Sets the polynomial to the zero polynomial
@@ -119,7 +194,8 @@ public class Polynomial implements IDerivable {
     // EFFECTS: Sets the polynomial to the zero polynomial
     @Override
     public void reset() {
-        orderedTerms.clear();
+        coefficients.clear();
+        evaluator = null;
 
         Event log = new Event("Reset polynomial to zero polynomial");
         EventLog.getInstance().logEvent(log);
@@ -131,8 +207,8 @@ public class Polynomial implements IDerivable {
     @Override
     public void derive() {
         List<Term> orderedDerivativeTerms = getDerivativeForTerms(this);
-        orderedTerms.clear();
-        orderedTerms.addAll(orderedDerivativeTerms);
+        coefficients.clear();
+        addTermsToList(orderedDerivativeTerms);
 
         Event log = new Event("Derived polynomial (now " + this + ")");
         EventLog.getInstance().logEvent(log);
@@ -143,73 +219,209 @@ public class Polynomial implements IDerivable {
     @Override
     public Polynomial getDerivative() {
         List<Term> orderedDerivativeTerms = getDerivativeForTerms(this);
-        Polynomial derivative = new Polynomial();
-        derivative.orderedTerms.addAll(orderedDerivativeTerms);
-
-        return derivative;
+        return fromTerms(orderedDerivativeTerms);
     }
 
     protected static List<Term> getDerivativeForTerms(Polynomial polynomial) {
-        List<Term> orderedTerms = new LinkedList<>();
+        List<Term> orderedTerms = new ArrayList<>();
 
         // add the derivative of each term as long as they're not zero
-        for (Term term : polynomial.orderedTerms) {
-            Term termDerivative = term.getDerivative();
-            if (!termDerivative.isZero()) {
-                orderedTerms.add(termDerivative);
+        for (Term term : polynomial.coefficients.getTerms()) {
+            term.derive();
+            if (!term.isZero()) {
+                orderedTerms.add(term);
             }
         }
 
         return orderedTerms;
     }
 
+    // Gets the quotient of the polynomial divided by the divisor, with exact rational coefficients
+    // REQUIRES: divisor is not the zero polynomial
+    // EFFECTS: gets the quotient
+    public Polynomial divide(Polynomial divisor) {
+        return getDivision(divisor)[0];
+    }
+
+    // Gets the remainder of the polynomial divided by the divisor, with exact rational coefficients
+    // REQUIRES: divisor is not the zero polynomial
+    // EFFECTS: gets the remainder
+    public Polynomial remainder(Polynomial divisor) {
+        return getDivision(divisor)[1];
+    }
+
+    // Gets the quotient and remainder of the polynomial divided by the divisor.
+    // Both are scaled to integer polynomials A = La * this and B = Lb * divisor, which are pseudo-divided:
+    // lc(B)^k * A = Q * B + R, so this = (Lb * Q / (lc(B)^k * La)) * divisor + R / (lc(B)^k * La)
+    // REQUIRES: divisor is not the zero polynomial
+    // EFFECTS: gets {quotient, remainder}
+    private Polynomial[] getDivision(Polynomial divisor) {
+        List<Term> terms = getTerms();
+        List<Term> divisorTerms = divisor.getTerms();
+        BigInteger dividendScale = ZMathUtil.getDenominatorLcm(terms);
+        BigInteger divisorScale = ZMathUtil.getDenominatorLcm(divisorTerms);
+        BigInteger[] a = ZMathUtil.fromTerms(terms, dividendScale);
+        BigInteger[] b = ZMathUtil.fromTerms(divisorTerms, divisorScale);
+
+        BigInteger[][] division = ZMathUtil.getPseudoDivision(a, b);
+        int steps = Math.max(a.length - b.length + 1, 0);
+        BigInteger scale = b[b.length - 1].pow(steps).multiply(dividendScale);
+
+        BigInteger[] quotient = division[0];
+        for (int i = 0; i < quotient.length; i++) {
+            quotient[i] = quotient[i].multiply(divisorScale);
+        }
+        return new Polynomial[] {fromTerms(ZMathUtil.toTerms(quotient, scale)),
+                fromTerms(ZMathUtil.toTerms(division[1], scale))};
+    }
+
+    // Gets the greatest common divisor of the polynomials as a monic polynomial (zero if both are zero),
+    // computed on integer coefficients with the subresultant polynomial remainder sequence
+    // EFFECTS: gets the greatest common divisor
+    public Polynomial gcd(Polynomial polynomial) {
+        List<Term> terms = getTerms();
+        List<Term> otherTerms = polynomial.getTerms();
+        BigInteger[] a = ZMathUtil.fromTerms(terms, ZMathUtil.getDenominatorLcm(terms));
+        BigInteger[] b = ZMathUtil.fromTerms(otherTerms, ZMathUtil.getDenominatorLcm(otherTerms));
+
+        BigInteger[] gcd = ZMathUtil.getGCD(a, b);
+        return fromTerms(ZMathUtil.toTerms(gcd, gcd.length > 0 ? gcd[gcd.length - 1] : BigInteger.ONE));
+    }
+
+    // Copies the polynomial without logging, e.g. to use as a key that doesn't change with this polynomial
+    // EFFECTS: Returns the copy
+    Polynomial createCopy() {
+        return fromTerms(getTerms());
+    }
+
+    // Constructs a polynomial from terms without logging
+    // REQUIRES: terms in ascending order of degree, with no two of the same degree
+    // EFFECTS: Returns the polynomial
+    private static Polynomial fromTerms(List<Term> terms) {
+        Polynomial polynomial = new Polynomial();
+        polynomial.addTermsToList(terms);
+        return polynomial;
+    }
+
     // Gets the y intercept of the function as a rational
     // EFFECTS: gets the y intercept
     public String getYIntercept() {
-        if (orderedTerms.size() == 0 || orderedTerms.get(0).getDegree() > 0) {
-            return "0";
-        } else {
-            return orderedTerms.get(0).toString(); // hacky but works
-        }
+        return coefficients.get(0).toString();
     }
 
     // Gets the x intercepts of the function as a rational if possible
     // EFFECTS: gets the x intercepts
     public List<Root> getXIntercepts() {
-        return Root.solveForPolynomial(this);
+        return AnalysisCache.getAnalysis(this).getXIntercepts();
+    }
+
+    // Gets all complex roots of the function, listed once per multiplicity
+    // EFFECTS: gets the complex roots
+    public List<ComplexRoot> getComplexRoots() {
+        return Root.solveForComplexRoots(this);
+    }
+
+    // Gets the factorization of the function into irreducible factors over the rationals: the constant first
+    // (left out if it's 1 and there are other factors), followed by the primitive integer factors with positive
+    // leading coefficients in increasing order of degree, listed once per multiplicity
+    // EFFECTS: gets the irreducible factors
+    public List<Polynomial> getIrreducibleFactors() {
+        List<Polynomial> factors = new ArrayList<>();
+        List<Term> terms = getTerms();
+        BigInteger scale = ZMathUtil.getDenominatorLcm(terms);
+        BigInteger[] p = ZMathUtil.fromTerms(terms, scale);
+        BigInteger leadingCoefficient = p.length > 0 ? p[p.length - 1] : BigInteger.ZERO;
+
+        if (ZMathUtil.getDegree(p) >= 1) {
+            for (BigInteger[] factor : new PolynomialFactorizer().factor(p)) {
+                factors.add(fromTerms(ZMathUtil.toTerms(factor, BigInteger.ONE)));
+                leadingCoefficient = leadingCoefficient.divide(factor[factor.length - 1]);
+            }
+        }
+
+        Term constant = new Term(leadingCoefficient, scale, 0);
+        if (factors.isEmpty() || !constant.toString().equals("1")) {
+            List<Term> constantTerms = new ArrayList<>();
+            if (!constant.isZero()) {
+                constantTerms.add(constant);
+            }
+            factors.add(0, fromTerms(constantTerms));
+        }
+        return factors;
+    }
+
+    // Gets the factorization of the function as a string, e.g. "2(x - 1)^2(x^2 + 1)", where repeated factors are
+    // grouped with an exponent and single-term factors aren't wrapped in parentheses
+    // EFFECTS: gets the factored form
+    public String toFactoredString() {
+        List<Polynomial> factors = getIrreducibleFactors();
+        StringBuilder string = new StringBuilder();
+        for (int i = 0; i < factors.size(); ) {
+            String factor = factors.get(i).toString();
+            int exponent = 1;
+            while (i + exponent < factors.size() && factors.get(i + exponent).toString().equals(factor)) {
+                exponent++;
+            }
+
+            if (!factor.contains("x") && factors.size() > 1) { // the constant, which is always first
+                string.append(factor.equals("-1") ? "-" : factor);
+            } else {
+                boolean isSingleTerm = factors.get(i).getTerms().size() <= 1;
+                string.append(isSingleTerm ? factor : "(" + factor + ")").append(exponent > 1 ? "^" + exponent : "");
+            }
+            i += exponent;
+        }
+        return string.toString();
     }
 
     // Gets the critical points of the function as a rational if possible
     // EFFECTS: gets the critical points
     public List<Root> getCriticalPoints() {
-        return Root.solveForPolynomial(getDerivative());
+        return AnalysisCache.getAnalysis(this).getCriticalPoints();
     }
 
     // Gets the inflection points of the function as a rational if possible
     // EFFECTS: gets the inflection points
     public List<Root> getInflectionPoints() {
-        return Root.solveForPolynomial(getDerivative().getDerivative());
+        return AnalysisCache.getAnalysis(this).getInflectionPoints();
+    }
+
+    // Overriding equals() method of Object class; polynomials are equal if they have the same terms, whether their
+    // coefficients are stored densely or sparsely
+    // EFFECTS: Returns whether the polynomials are equal
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Polynomial && getTerms().equals(((Polynomial) o).getTerms());
+    }
+
+    // Overriding hashCode() method of Object class
+    // EFFECTS: Returns the hash code of the terms
+    @Override
+    public int hashCode() {
+        return getTerms().hashCode();
     }
 
     // Overriding toString() method of String class
     // EFFECTS: Returns the string of the coefficient
     @Override
     public String toString() {
-        if (this.orderedTerms.size() > 0) {
-            StringBuilder string = new StringBuilder(this.orderedTerms.get(this.orderedTerms.size() - 1).toString());
-            for (int i = this.orderedTerms.size() - 2; i >= 0; i--) {
-                Term term = this.orderedTerms.get(i);
-
-                if (!term.isNegative()) {
-                    string.append(" + ").append(term);
-                } else {
-                    string.append(" - ").append(term.getAbs());
-                }
+        List<Term> terms = coefficients.getTerms();
+        if (terms.isEmpty()) {
+            return "0";
+        }
 
+        StringBuilder string = new StringBuilder(terms.get(terms.size() - 1).toString());
+        for (int i = terms.size() - 2; i >= 0; i--) {
+            Term term = terms.get(i);
+            if (!term.isNegative()) {
+                string.append(" + ").append(term);
+            } else {
+                string.append(" - ").append(term.getAbs());
             }
-            return string.toString();
-        } else {
-            return "0";
         }
+        return string.toString();
     }
 }
\ No newline at end of file
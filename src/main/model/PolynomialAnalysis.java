@@ -0,0 +1,77 @@
+package model;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * The analysis of a polynomial: its x-intercepts, critical points and inflection points, computed lazily in one
+ * pipeline. The polynomial is converted to integer coefficients once, and its derivative chain is built from that
+ * in primitive form (scaling a polynomial doesn't change its roots), instead of each query rebuilding derivatives
+ * from terms and normalizing them again. Each set of roots is only solved the first time it's asked for, by
+ * interlacing from the roots of the next derivative (see InterlacingSolver), which are solved first.
+ */
+public class PolynomialAnalysis {
+    private static final int ORDERS = 3; // the polynomial, its derivative, and its second derivative
+
+    private final BigInteger[][] derivatives = new BigInteger[ORDERS][]; // primitive, empty for the zero polynomial
+    private final List<List<Root>> roots = new ArrayList<>(); // null until solved
+
+    // Constructs the analysis of the polynomial, which doesn't change with the polynomial afterwards
+    // EFFECTS: Constructs the analysis
+    public PolynomialAnalysis(Polynomial polynomial) {
+        List<Term> terms = polynomial.getTerms();
+        derivatives[0] = ZMathUtil.getPrimitivePart(ZMathUtil.fromTerms(terms, ZMathUtil.getDenominatorLcm(terms)));
+        roots.add(null);
+        for (int order = 1; order < ORDERS; order++) {
+            derivatives[order] = ZMathUtil.getPrimitivePart(ZMathUtil.getDerivative(derivatives[order - 1]));
+            roots.add(null);
+        }
+    }
+
+    // Gets the x intercepts of the polynomial (see Root.solveForPolynomial)
+    // EFFECTS: gets the x intercepts
+    public List<Root> getXIntercepts() {
+        return getRoots(0);
+    }
+
+    // Gets the critical points of the polynomial, i.e. the roots of its derivative
+    // EFFECTS: gets the critical points
+    public List<Root> getCriticalPoints() {
+        return getRoots(1);
+    }
+
+    // Gets the inflection points of the polynomial, i.e. the roots of its second derivative
+    // EFFECTS: gets the inflection points
+    public List<Root> getInflectionPoints() {
+        return getRoots(2);
+    }
+
+    // Gets the roots of the derivative of the order, solving it the first time
+    // MODIFIES: this
+    // EFFECTS: Returns the roots, as a list that the caller may modify
+    private synchronized List<Root> getRoots(int order) {
+        if (roots.get(order) == null) {
+            roots.set(order, Root.solveForIntegerPolynomial(derivatives[order], getInterlacingSolver(order)));
+        }
+        return new ArrayList<>(roots.get(order));
+    }
+
+    // Makes the solver for the roots of the derivative of the order, seeded with the roots of the next derivative
+    // (so the x-intercepts come from the critical points, and those from the inflection points), except for the
+    // last derivative, whose solver finds its own critical points
+    // MODIFIES: this
+    // EFFECTS: Returns the solver
+    private InterlacingSolver getInterlacingSolver(int order) {
+        if (order == ORDERS - 1 || ZMathUtil.getDegree(derivatives[order]) < 1) {
+            return new InterlacingSolver();
+        }
+
+        List<Root> criticalPoints = getRoots(order + 1);
+        double[] values = new double[criticalPoints.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = criticalPoints.get(i).getValue();
+        }
+        return new InterlacingSolver(derivatives[order], values);
+    }
+}
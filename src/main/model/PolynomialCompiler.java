@@ -0,0 +1,265 @@
+package model;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.DoubleUnaryOperator;
+
+/*
+ * Compiles polynomials into specialized DoubleUnaryOperators for polynomials that are evaluated millions of times.
+ * Each polynomial gets its own hidden class (MethodHandles.Lookup.defineHiddenClass), whose applyAsDouble is
+ * Horner's method unrolled with the coefficients baked in as constants (i.e. for 2x^2 - 3, it's
+ * return Math.fma(2.0 * x, x, -3.0)), so the JIT can fold and schedule it like hand-written code.
+ * The compiled operators are cached by their coefficients, and the least recently used ones are evicted;
+ * hidden classes aren't strongly held by their class loader, so evicted classes can be unloaded from metaspace.
+ */
+public final class PolynomialCompiler {
+    // HotSpot doesn't JIT-compile methods with more than 8000 bytes of bytecode, and each coefficient takes 7
+    private static final int MAX_UNROLLED_DEGREE = 1000;
+    private static final int MAX_CACHED_OPERATORS = 64;
+
+    private static final String CLASS_NAME = "model/CompiledPolynomial";
+    private static final int CLASS_FILE_MAGIC = 0xCAFEBABE;
+    private static final int CLASS_FILE_VERSION = 52; // Java 8, which doesn't need stack maps for branchless code
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+
+    // constant pool tags and opcodes (https://docs.oracle.com/javase/specs/jvms/se17/html/jvms-4.html)
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int DCONST_0 = 0x0e;
+    private static final int LDC2_W = 0x14;
+    private static final int DLOAD_1 = 0x27;
+    private static final int ALOAD_0 = 0x2a;
+    private static final int DMUL = 0x6b;
+    private static final int DRETURN = 0xaf;
+    private static final int RETURN = 0xb1;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+
+    // the fixed part of the constant pool, followed by the coefficients
+    private static final String[] FIXED_UTF8 = {CLASS_NAME, "java/lang/Object",
+        "java/util/function/DoubleUnaryOperator", "<init>", "()V", "applyAsDouble", "(D)D", "Code", "java/lang/Math",
+        "fma", "(DDD)D"};
+    private static final int THIS_CLASS = 12;
+    private static final int OBJECT_CLASS = 13;
+    private static final int OPERATOR_CLASS = 14;
+    private static final int OBJECT_CONSTRUCTOR = 17;
+    private static final int FMA_METHOD = 19;
+    private static final int FIRST_COEFFICIENT = 20;
+
+    private static final Map<Key, DoubleUnaryOperator> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, DoubleUnaryOperator> eldest) {
+            return size() > MAX_CACHED_OPERATORS;
+        }
+    };
+
+    /*
+     * The cache key for a polynomial: its coefficients compared bit for bit
+     */
+    private static final class Key {
+        private final double[] coefficients;
+
+        private Key(double[] coefficients) {
+            this.coefficients = coefficients;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && Arrays.equals(coefficients, ((Key) o).coefficients);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(coefficients);
+        }
+    }
+
+    // Compiles the polynomial into a specialized operator, or reuses the one compiled for the same coefficients.
+    // Polynomials of too high a degree to unroll (or if hidden classes can't be defined) use the evaluator instead.
+    // REQUIRES: coefficients indexed by degree
+    // EFFECTS: Returns the operator that evaluates the polynomial
+    public static synchronized DoubleUnaryOperator compile(double[] coefficients) {
+        Key key = new Key(coefficients.clone());
+        DoubleUnaryOperator operator = CACHE.get(key);
+        if (operator == null) {
+            operator = defineOperator(key.coefficients);
+            CACHE.put(key, operator);
+        }
+        return operator;
+    }
+
+    // Returns the number of compiled operators in the cache
+    // EFFECTS: Returns the cache size
+    public static synchronized int getCacheSize() {
+        return CACHE.size();
+    }
+
+    // Defines the hidden class for the coefficients and instantiates it
+    // EFFECTS: Returns the operator that evaluates the polynomial
+    private static DoubleUnaryOperator defineOperator(double[] coefficients) {
+        PolynomialEvaluator evaluator = new PolynomialEvaluator(coefficients);
+        if (coefficients.length - 1 > MAX_UNROLLED_DEGREE) {
+            return evaluator::evaluateWithHorner;
+        }
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(toClassFile(coefficients), true);
+            return (DoubleUnaryOperator) lookup.lookupClass().getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return evaluator::evaluateWithHorner;
+        }
+    }
+
+    // Writes the class file of a final class implementing DoubleUnaryOperator for the coefficients
+    // EFFECTS: Returns the class file
+    private static byte[] toClassFile(double[] coefficients) {
+        Map<Double, Integer> constants = new HashMap<>();
+        ByteArrayOutputStream pool = new ByteArrayOutputStream();
+        int poolCount = writeCoefficientConstants(pool, writeFixedConstants(pool), coefficients, constants);
+
+        ByteArrayOutputStream classFile = new ByteArrayOutputStream();
+        writeInt(classFile, CLASS_FILE_MAGIC);
+        writeShort(classFile, 0);
+        writeShort(classFile, CLASS_FILE_VERSION);
+        writeShort(classFile, poolCount);
+        classFile.writeBytes(pool.toByteArray());
+        writeShort(classFile, ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+        writeShort(classFile, THIS_CLASS);
+        writeShort(classFile, OBJECT_CLASS);
+        writeShort(classFile, 1); // implements DoubleUnaryOperator
+        writeShort(classFile, OPERATOR_CLASS);
+        writeShort(classFile, 0); // no fields
+        writeShort(classFile, 2); // the constructor and applyAsDouble
+        writeMethod(classFile, 4, 5, 1, 1, new byte[] {(byte) ALOAD_0, (byte) INVOKESPECIAL, 0, OBJECT_CONSTRUCTOR,
+            (byte) RETURN});
+        writeMethod(classFile, 6, 7, 6, 3, toHornerCode(coefficients, constants));
+        writeShort(classFile, 0); // no class attributes
+        return classFile.toByteArray();
+    }
+
+    // Writes a constant pool entry for each distinct coefficient, numbered from the index given
+    // MODIFIES: pool, constants
+    // EFFECTS: Writes the entries, maps each coefficient to its index, and returns the index of the next entry
+    private static int writeCoefficientConstants(ByteArrayOutputStream pool, int poolCount, double[] coefficients,
+                                                 Map<Double, Integer> constants) {
+        for (double coefficient : coefficients) {
+            if (!constants.containsKey(coefficient)) {
+                constants.put(coefficient, poolCount);
+                pool.write(CONSTANT_DOUBLE);
+                writeLong(pool, Double.doubleToRawLongBits(coefficient));
+                poolCount += 2; // doubles take two constant pool entries
+            }
+        }
+        return poolCount;
+    }
+
+    // Writes the constant pool entries that every compiled class shares, numbered from 1:
+    // the utf8 strings (1-11), the classes (12-15), Object's constructor (16-17), and Math.fma (18-19)
+    // MODIFIES: pool
+    // EFFECTS: Writes the entries and returns the index of the next entry
+    private static int writeFixedConstants(ByteArrayOutputStream pool) {
+        for (String string : FIXED_UTF8) {
+            pool.write(CONSTANT_UTF8);
+            writeShort(pool, string.length());
+            pool.writeBytes(string.getBytes(StandardCharsets.US_ASCII));
+        }
+        for (int utf8 : new int[] {1, 2, 3, 9}) {
+            pool.write(CONSTANT_CLASS);
+            writeShort(pool, utf8);
+        }
+        writeReference(pool, CONSTANT_NAME_AND_TYPE, 4, 5);
+        writeReference(pool, CONSTANT_METHODREF, OBJECT_CLASS, 16);
+        writeReference(pool, CONSTANT_NAME_AND_TYPE, 10, 11);
+        writeReference(pool, CONSTANT_METHODREF, 15, 18);
+        return FIRST_COEFFICIENT;
+    }
+
+    // Writes the bytecode of Horner's method with the coefficients inlined:
+    // value = a_n, then value = fma(value, x, a_i) for each lower coefficient (or value * x if a_i is 0)
+    // EFFECTS: Returns the bytecode
+    private static byte[] toHornerCode(double[] coefficients, Map<Double, Integer> constants) {
+        ByteArrayOutputStream code = new ByteArrayOutputStream();
+        if (coefficients.length == 0) {
+            code.write(DCONST_0);
+        } else {
+            writeLoadConstant(code, constants.get(coefficients[coefficients.length - 1]));
+        }
+
+        for (int i = coefficients.length - 2; i >= 0; i--) {
+            code.write(DLOAD_1);
+            if (Double.doubleToRawLongBits(coefficients[i]) == 0) {
+                code.write(DMUL);
+            } else {
+                writeLoadConstant(code, constants.get(coefficients[i]));
+                code.write(INVOKESTATIC);
+                writeShort(code, FMA_METHOD);
+            }
+        }
+        code.write(DRETURN);
+        return code.toByteArray();
+    }
+
+    // MODIFIES: code
+    // EFFECTS: Writes the instruction that pushes the double constant
+    private static void writeLoadConstant(ByteArrayOutputStream code, int index) {
+        code.write(LDC2_W);
+        writeShort(code, index);
+    }
+
+    // MODIFIES: classFile
+    // EFFECTS: Writes a public method with a Code attribute and no exception handlers
+    private static void writeMethod(ByteArrayOutputStream classFile, int name, int descriptor,
+                                    int maxStack, int maxLocals, byte[] code) {
+        writeShort(classFile, ACC_PUBLIC);
+        writeShort(classFile, name);
+        writeShort(classFile, descriptor);
+        writeShort(classFile, 1); // the Code attribute
+        writeShort(classFile, 8);
+        writeInt(classFile, 12 + code.length);
+        writeShort(classFile, maxStack);
+        writeShort(classFile, maxLocals);
+        writeInt(classFile, code.length);
+        classFile.writeBytes(code);
+        writeShort(classFile, 0); // no exception handlers
+        writeShort(classFile, 0); // no code attributes
+    }
+
+    // MODIFIES: pool
+    // EFFECTS: Writes a constant pool entry made of two references
+    private static void writeReference(ByteArrayOutputStream pool, int tag, int first, int second) {
+        pool.write(tag);
+        writeShort(pool, first);
+        writeShort(pool, second);
+    }
+
+    // MODIFIES: out
+    // EFFECTS: Writes the value as 2 big-endian bytes
+    private static void writeShort(ByteArrayOutputStream out, int value) {
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    // MODIFIES: out
+    // EFFECTS: Writes the value as 4 big-endian bytes
+    private static void writeInt(ByteArrayOutputStream out, int value) {
+        writeShort(out, value >>> 16);
+        writeShort(out, value);
+    }
+
+    // MODIFIES: out
+    // EFFECTS: Writes the value as 8 big-endian bytes
+    private static void writeLong(ByteArrayOutputStream out, long value) {
+        writeInt(out, (int) (value >>> 32));
+        writeInt(out, (int) value);
+    }
+}
@@ -0,0 +1,305 @@
+package model;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/*
+ * Factors integer polynomials into irreducible polynomials over Z with the Berlekamp-Zassenhaus algorithm
+ * (https://en.wikipedia.org/wiki/Factorization_of_polynomials#Factoring_univariate_polynomials_over_the_integers).
+ * After the square-free factorization, each square-free factor f is factored mod a small prime p that keeps it
+ * square-free (see ZpMathUtil), the factorization is Hensel lifted (https://en.wikipedia.org/wiki/Hensel%27s_lemma)
+ * to one mod p^k with p^k larger than twice the Mignotte bound on the coefficients of any factor of f, and then
+ * the true factors are recovered by trying products of the lifted factors, smallest subsets first.
+ * The recombination is exponential in the number of modular factors in the worst case (i.e. Swinnerton-Dyer
+ * polynomials, which split into linear or quadratic factors mod every prime), so it stops once it would try more
+ * than MAX_CANDIDATES subsets, leaving what's left of f as a single factor that may be reducible.
+ */
+public class PolynomialFactorizer {
+    private static final int PRIMES_TRIED = 5; // the prime with the fewest modular factors of these is used
+    private static final long MAX_CANDIDATES = 2000; // the subsets of lifted factors tried per square-free factor
+
+    // the random choices of Cantor-Zassenhaus only change how fast factors mod p are split, never the result,
+    // so a fixed seed keeps the factorizer reproducible
+    private final Random random = new Random(0);
+
+    /*
+     * A factorization mod a prime
+     */
+    private static class ModularFactorization {
+        private final long prime;
+        private final List<long[]> factors;
+
+        // EFFECTS: constructs a factorization mod the prime
+        private ModularFactorization(long prime, List<long[]> factors) {
+            this.prime = prime;
+            this.factors = factors;
+        }
+    }
+
+    // Factors the polynomial into irreducible factors, which are primitive with a positive leading coefficient,
+    // in increasing order of degree, and listed once per multiplicity; the content and sign aren't included
+    // REQUIRES: polynomial of degree >= 1
+    // EFFECTS: Returns the irreducible factors
+    public List<BigInteger[]> factor(BigInteger[] p) {
+        List<BigInteger[]> factors = new ArrayList<>();
+        List<BigInteger[]> squareFreeFactors = ZMathUtil.getSquareFreeFactorization(p);
+        for (int i = 0; i < squareFreeFactors.size(); i++) {
+            if (ZMathUtil.getDegree(squareFreeFactors.get(i)) < 1) {
+                continue;
+            }
+            for (BigInteger[] factor : factorSquareFree(squareFreeFactors.get(i))) {
+                for (int j = 0; j <= i; j++) {
+                    factors.add(factor);
+                }
+            }
+        }
+
+        factors.sort(Comparator.comparingInt(ZMathUtil::getDegree));
+        return factors;
+    }
+
+    // Factors the square-free polynomial into irreducible factors, except that the last one may be reducible if
+    // recombining it would take too long
+    // REQUIRES: square-free primitive polynomial of degree >= 1 with a positive leading coefficient
+    // EFFECTS: Returns the factors, which are primitive with a positive leading coefficient
+    public List<BigInteger[]> factorSquareFree(BigInteger[] f) {
+        if (ZMathUtil.getDegree(f) == 1) {
+            return Collections.singletonList(f);
+        }
+
+        ModularFactorization modularFactorization = factorModPrime(f);
+        if (modularFactorization.factors.size() == 1) {
+            return Collections.singletonList(f);
+        }
+
+        int exponent = getLiftingExponent(f, modularFactorization.prime);
+        List<BigInteger[]> liftedFactors = liftFactors(f, modularFactorization, exponent);
+        return recombine(f, liftedFactors, BigInteger.valueOf(modularFactorization.prime).pow(exponent));
+    }
+
+    // Factors f mod each of the first few odd primes that don't divide its leading coefficient and keep it
+    // square-free, and keeps the factorization with the fewest factors, since that's the least to recombine
+    // REQUIRES: square-free polynomial of degree >= 1
+    // EFFECTS: Returns the factorization into monic irreducible factors mod the chosen prime
+    private ModularFactorization factorModPrime(BigInteger[] f) {
+        ModularFactorization best = null;
+        int primesTried = 0;
+        for (long prime = 3; primesTried < PRIMES_TRIED; prime += 2) {
+            long[] reduction = ZpMathUtil.reduce(f, prime);
+            if (!NMathUtil.isPrime(prime) || reduction.length != f.length || ZpMathUtil.getDegree(
+                    ZpMathUtil.getGCD(reduction, ZpMathUtil.getDerivative(reduction, prime), prime)) > 0) {
+                continue;
+            }
+
+            List<long[]> factors = ZpMathUtil.getIrreducibleFactors(ZpMathUtil.getMonic(reduction, prime), prime,
+                    random);
+            if (best == null || factors.size() < best.factors.size()) {
+                best = new ModularFactorization(prime, factors);
+            }
+            primesTried++;
+        }
+        return best;
+    }
+
+    // Returns the smallest k such that p^k > 2B, where B = |lc(f)| 2^n (n + 1) max|a_i| bounds the coefficients of
+    // lc(f) g / lc(g) for any factor g of f (https://en.wikipedia.org/wiki/Mignotte_bound, with (n + 1) max|a_i|
+    // bounding the 2-norm), so that they're recovered exactly as symmetric residues mod p^k
+    // EFFECTS: Returns the exponent k
+    private static int getLiftingExponent(BigInteger[] f, long prime) {
+        BigInteger maxCoefficient = BigInteger.ZERO;
+        for (BigInteger coefficient : f) {
+            maxCoefficient = maxCoefficient.max(coefficient.abs());
+        }
+
+        int degree = ZMathUtil.getDegree(f);
+        BigInteger bound = maxCoefficient.multiply(BigInteger.valueOf(degree + 1)).multiply(f[degree].abs())
+                .shiftLeft(degree + 1);
+        BigInteger power = BigInteger.valueOf(prime);
+        int exponent = 1;
+        while (power.compareTo(bound) <= 0) {
+            power = power.multiply(BigInteger.valueOf(prime));
+            exponent++;
+        }
+        return exponent;
+    }
+
+    // Lifts f = lc(f) g_1 g_2 ... g_r (mod p) to mod p^k one factor at a time: g_1 and g_2 ... g_r are lifted
+    // against the monic f / lc(f), then g_2 and g_3 ... g_r against the lift of g_2 ... g_r, and so on
+    // REQUIRES: the modular factors are monic, distinct and irreducible, with at least two of them
+    // EFFECTS: Returns the monic lifted factors, with coefficients in [0, p^k)
+    private static List<BigInteger[]> liftFactors(BigInteger[] f, ModularFactorization modularFactorization,
+                                                  int exponent) {
+        long prime = modularFactorization.prime;
+        List<long[]> factors = modularFactorization.factors;
+        BigInteger modulus = BigInteger.valueOf(prime).pow(exponent);
+        BigInteger inverse = f[f.length - 1].modInverse(modulus);
+        BigInteger[] target = new BigInteger[f.length];
+        for (int i = 0; i < f.length; i++) {
+            target[i] = f[i].multiply(inverse).mod(modulus);
+        }
+
+        List<BigInteger[]> liftedFactors = new ArrayList<>();
+        for (int i = 0; i < factors.size() - 1; i++) {
+            long[] rest = {1};
+            for (long[] factor : factors.subList(i + 1, factors.size())) {
+                rest = ZpMathUtil.multiply(rest, factor, prime);
+            }
+            BigInteger[][] lift = liftPair(target, factors.get(i), rest, prime, exponent);
+            liftedFactors.add(lift[0]);
+            target = lift[1];
+        }
+        liftedFactors.add(target);
+        return liftedFactors;
+    }
+
+    // Lifts t = gh (mod p) to t = GH (mod p^k) one power of p at a time: if t = GH (mod m), then
+    // e = (t - GH) / m (mod p) is split as e = tau G + sigma H (mod p) with deg(tau) < deg(g), using sg + th = 1,
+    // and G + m tau, H + m sigma is the factorization mod mp
+    // REQUIRES: g and h are monic and coprime mod p, and t = gh (mod p) is monic with coefficients in [0, p^k)
+    // EFFECTS: Returns {G, H}, which are monic with coefficients in [0, p^k)
+    private static BigInteger[][] liftPair(BigInteger[] target, long[] g, long[] h, long prime, int exponent) {
+        long[][] extendedGCD = ZpMathUtil.getExtendedGCD(g, h, prime);
+        BigInteger[] liftedG = ZMathUtil.fromLongs(g);
+        BigInteger[] liftedH = ZMathUtil.fromLongs(h);
+        BigInteger modulus = BigInteger.valueOf(prime);
+        for (int step = 1; step < exponent; step++) {
+            BigInteger[] difference = ZMathUtil.subtract(target, ZMathUtil.multiply(liftedG, liftedH));
+            long[] error = ZpMathUtil.reduce(divideCoefficients(difference, modulus), prime);
+
+            long[] tau = ZpMathUtil.getRemainder(ZpMathUtil.multiply(extendedGCD[2], error, prime), g, prime);
+            long[] sigma = ZpMathUtil.getDivision(ZpMathUtil.subtract(error, ZpMathUtil.multiply(tau, h, prime),
+                    prime), g, prime)[0];
+            liftedG = addMultiple(liftedG, tau, modulus);
+            liftedH = addMultiple(liftedH, sigma, modulus);
+            modulus = modulus.multiply(BigInteger.valueOf(prime));
+        }
+        return new BigInteger[][] {liftedG, liftedH};
+    }
+
+    // Recovers the true factors from the lifted factors: for subsets of the lifted factors in increasing size,
+    // the primitive part of lc(f) times their product (as symmetric residues mod p^k) is a factor of f if it
+    // divides f, in which case it's split off along with the subset. Each size is only tried if all of its subsets
+    // fit in what's left of the budget of MAX_CANDIDATES
+    // REQUIRES: the lifted factors are a factorization of f / lc(f) mod p^k, and p^k is at least the lifting bound
+    // EFFECTS: Returns the irreducible factors of f, except that the last may be reducible if the budget ran out
+    private static List<BigInteger[]> recombine(BigInteger[] f, List<BigInteger[]> liftedFactors,
+                                                BigInteger modulus) {
+        List<BigInteger[]> factors = new ArrayList<>();
+        long budget = MAX_CANDIDATES;
+        for (int size = 1; 2 * size <= liftedFactors.size(); ) {
+            long subsets = getSubsetCount(liftedFactors.size(), size);
+            if (subsets > budget) {
+                break;
+            }
+            budget -= subsets;
+            BigInteger[] factor = findFactor(f, liftedFactors, size, modulus);
+            if (factor.length == 0) {
+                size++;
+            } else {
+                factors.add(factor);
+                f = ZMathUtil.getExactQuotient(f, factor);
+            }
+        }
+
+        factors.add(f);
+        return factors;
+    }
+
+    // Tries each subset of the lifted factors of the size, and removes the first one that gives a factor of f
+    // MODIFIES: liftedFactors
+    // EFFECTS: Returns the factor, or an empty array if no subset of the size gives one
+    private static BigInteger[] findFactor(BigInteger[] f, List<BigInteger[]> liftedFactors, int size,
+                                           BigInteger modulus) {
+        int[] subset = new int[size];
+        for (int i = 0; i < size; i++) {
+            subset[i] = i;
+        }
+
+        do {
+            BigInteger[] candidate = {f[f.length - 1]};
+            for (int index : subset) {
+                candidate = getSymmetricResidues(ZMathUtil.multiply(candidate, liftedFactors.get(index)), modulus);
+            }
+            candidate = ZMathUtil.getPrimitivePart(candidate);
+            if (divides(candidate, f)) {
+                for (int i = size - 1; i >= 0; i--) {
+                    liftedFactors.remove(subset[i]);
+                }
+                return candidate[candidate.length - 1].signum() < 0 ? ZMathUtil.negate(candidate) : candidate;
+            }
+        } while (getNextSubset(subset, liftedFactors.size()));
+        return new BigInteger[0];
+    }
+
+    // Returns the number of subsets of the size out of n, or MAX_CANDIDATES + 1 if it's more than MAX_CANDIDATES
+    // EFFECTS: Returns the capped binomial coefficient
+    private static long getSubsetCount(int n, int size) {
+        long count = 1;
+        for (int i = 0; i < size && count <= MAX_CANDIDATES; i++) {
+            count = count * (n - i) / (i + 1); // exact, since it's the binomial coefficient (n choose i + 1)
+        }
+        return Math.min(count, MAX_CANDIDATES + 1);
+    }
+
+    // Returns whether the candidate divides f, checking that its constant divides f's before dividing
+    // EFFECTS: Returns whether the candidate divides f
+    private static boolean divides(BigInteger[] candidate, BigInteger[] f) {
+        if (candidate[0].signum() == 0 ? f[0].signum() != 0 : f[0].remainder(candidate[0]).signum() != 0) {
+            return false;
+        }
+        return ZMathUtil.getPseudoRemainder(f, candidate).length == 0;
+    }
+
+    // Advances the subset (indices in increasing order) to the next one of the same size in lexicographic order
+    // MODIFIES: subset
+    // EFFECTS: Returns false if it was the last subset
+    private static boolean getNextSubset(int[] subset, int n) {
+        int i = subset.length - 1;
+        while (i >= 0 && subset[i] == n - subset.length + i) {
+            i--;
+        }
+        if (i < 0) {
+            return false;
+        }
+
+        subset[i]++;
+        for (int j = i + 1; j < subset.length; j++) {
+            subset[j] = subset[j - 1] + 1;
+        }
+        return true;
+    }
+
+    // EFFECTS: Returns p with each coefficient as the residue mod the modulus in (-modulus / 2, modulus / 2]
+    private static BigInteger[] getSymmetricResidues(BigInteger[] p, BigInteger modulus) {
+        BigInteger half = modulus.shiftRight(1);
+        BigInteger[] residues = new BigInteger[p.length];
+        for (int i = 0; i < p.length; i++) {
+            BigInteger residue = p[i].mod(modulus);
+            residues[i] = residue.compareTo(half) > 0 ? residue.subtract(modulus) : residue;
+        }
+        return ZMathUtil.trim(residues);
+    }
+
+    // EFFECTS: Returns p + m q, where q is a polynomial mod p
+    private static BigInteger[] addMultiple(BigInteger[] p, long[] q, BigInteger multiple) {
+        BigInteger[] sum = p.clone();
+        for (int i = 0; i < q.length; i++) {
+            sum[i] = sum[i].add(multiple.multiply(BigInteger.valueOf(q[i])));
+        }
+        return sum;
+    }
+
+    // REQUIRES: divisor divides every coefficient exactly
+    // EFFECTS: Returns p / divisor
+    private static BigInteger[] divideCoefficients(BigInteger[] p, BigInteger divisor) {
+        BigInteger[] quotient = new BigInteger[p.length];
+        for (int i = 0; i < p.length; i++) {
+            quotient[i] = p[i].divide(divisor);
+        }
+        return quotient;
+    }
+}
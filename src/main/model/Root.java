@@ -1,10 +1,16 @@
 package model;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
 import java.math.RoundingMode;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /*
  * Represents the roots (aka solutions) of the polynomial at p(x) = 0
@@ -12,11 +18,15 @@ import java.util.List;
  * Instead, the list of roots are provided for the provided polynomial.
  */
 public class Root implements Comparable<Root>  {
-    private static final double DELTA = 0.0001;
-    private static final DecimalFormat ROUNDING_FORMAT = new DecimalFormat("0.000000");
+    private static final double SOLVER_TOLERANCE = 1e-6; // repeated roots from an all-roots solver are this close
+    private static final int MIN_PARALLEL_DEGREE = 32; // smaller solves aren't worth the overhead of forking
+    // formats aren't thread-safe, and roots are constructed in parallel
+    private static final ThreadLocal<DecimalFormat> ROUNDING_FORMAT =
+            ThreadLocal.withInitial(() -> new DecimalFormat("0.000000"));
 
     private double value;
     private String displayText;
+    private int multiplicity = 1;
 
     // Constructs a root for x = 0
     // EFFECTS: Constructs a root at zero
@@ -30,8 +40,9 @@ public class Root implements Comparable<Root>  {
     public Root(double value) {
         this.value = value;
 
-        ROUNDING_FORMAT.setRoundingMode(RoundingMode.HALF_UP);
-        this.displayText = ROUNDING_FORMAT.format(value);
+        DecimalFormat format = ROUNDING_FORMAT.get();
+        format.setRoundingMode(RoundingMode.HALF_UP);
+        this.displayText = format.format(value);
     }
 
     // Constructs a root from a rational/integer number
@@ -77,12 +88,13 @@ public class Root implements Comparable<Root>  {
             rootedPart /= squaredRootedPart * squaredRootedPart;
 
             // simplify if possible
-            int gcd = NMathUtil.getGCD(Math.abs(numerator), NMathUtil.getGCD(denominator, squaredRootedPart));
+            int gcd = NMathUtil.getGCD(denominator, squaredRootedPart);
+            gcd = numerator != 0 ? NMathUtil.getGCD(Math.abs(numerator), gcd) : gcd;
             numerator /= gcd;
             denominator /= gcd;
             squaredRootedPart /= gcd;
 
-            this.displayText = numerator != 0 ? numerator + "" : ""; // numerator
+            this.displayText = numerator != 0 ? numerator + "" : (isPositive ? "" : "-"); // numerator
             this.displayText += numerator != 0 && rootedPart != 0 ? (isPositive ? "+" : "-") : ""; // sign
             this.displayText += squaredRootedPart > 1 ? squaredRootedPart : ""; // factored part of sqrt
             this.displayText += rootedPart != 0 ? "sqrt(" + rootedPart + ")" : ""; // sqrt part
@@ -101,6 +113,14 @@ public class Root implements Comparable<Root>  {
         return this.displayText;
     }
 
+    public int getMultiplicity() {
+        return this.multiplicity;
+    }
+
+    protected void setMultiplicity(int multiplicity) {
+        this.multiplicity = multiplicity;
+    }
+
     // Overriding toString() method of String class
     // EFFECTS: Returns the string of the coefficient
     @Override
@@ -118,33 +138,75 @@ public class Root implements Comparable<Root>  {
     // Gets the roots (aka solutions for p(x) = 0) of the function
     // EFFECTS: Gets the roots
     public static List<Root> solveForPolynomial(Polynomial polynomial) {
-        List<Root> roots = new ArrayList<>();
+        return solveForPolynomial(polynomial, null);
+    }
+
+    // Gets the roots (aka solutions for p(x) = 0) of the function, where the real roots that can't be found exactly
+    // are found with the given solver; if the solver is null, they're isolated exactly instead
+    // EFFECTS: Gets the roots
+    public static List<Root> solveForPolynomial(Polynomial polynomial, IRootSolver solver) {
+        return solveForPolynomial(polynomial, solver, ForkJoinPool.commonPool());
+    }
+
+    // Gets the roots (aka solutions for p(x) = 0) of the function like above, where the independent work of
+    // isolating the real roots exactly (each irreducible factor, each bisection, and each isolating interval)
+    // is split into tasks on the pool if the polynomial is large enough; if the pool is null, it's all done on the
+    // calling thread. The roots are the same either way.
+    // EFFECTS: Gets the roots
+    public static List<Root> solveForPolynomial(Polynomial polynomial, IRootSolver solver, ForkJoinPool pool) {
+        // normalize the polynomial such that the coefficients are integers (multiply all by lcm)
         List<Term> terms = polynomial.getTerms();
+        return solveForIntegerPolynomial(ZMathUtil.fromTerms(terms, ZMathUtil.getDenominatorLcm(terms)), solver, pool);
+    }
 
-        int size = terms.size();
-        if (size == 0) { // no more solutions
+    // Gets the roots (aka solutions for p(x) = 0) of the function, where the real roots that can't be found exactly
+    // are found by interlacing (see InterlacingSolver): from the real roots of each derivative, in O(n^2) evaluations
+    // EFFECTS: Gets the roots
+    public static List<Root> solveForPolynomialByInterlacing(Polynomial polynomial) {
+        List<Term> terms = polynomial.getTerms();
+        return solveForIntegerPolynomial(ZMathUtil.fromTerms(terms, ZMathUtil.getDenominatorLcm(terms)),
+                new InterlacingSolver());
+    }
+
+    // Gets the roots of the integer polynomial like above, which are the same as those of any rational multiple
+    // EFFECTS: Gets the roots
+    static List<Root> solveForIntegerPolynomial(BigInteger[] p, IRootSolver solver, ForkJoinPool pool) {
+        return solveForIntegerPolynomial(p, solver, pool, null);
+    }
+
+    // Gets the roots of the integer polynomial, where the real roots that can't be found exactly are found with the
+    // interlacing solver, which may be seeded with the polynomial (see InterlacingSolver)
+    // EFFECTS: Gets the roots
+    static List<Root> solveForIntegerPolynomial(BigInteger[] p, InterlacingSolver interlacingSolver) {
+        return solveForIntegerPolynomial(p, null, null, interlacingSolver);
+    }
+
+    // Gets the roots of the integer polynomial, where the real roots that can't be found exactly are found with the
+    // solver, or with the interlacing solver, or else isolated exactly (in parallel on the pool, if any)
+    // EFFECTS: Gets the roots
+    private static List<Root> solveForIntegerPolynomial(BigInteger[] p, IRootSolver solver, ForkJoinPool pool,
+                                                        InterlacingSolver interlacingSolver) {
+        List<Root> roots = new ArrayList<>();
+        if (p.length == 0) { // no more solutions
             return roots;
         }
 
         // purpose: factor out x=0 from polynomial until constant exists
-        // method: get the degree of last term; this is the number of x=0
-        int numberOfZeroIntercepts = terms.get(0).getDegree();
+        // method: get the degree of the lowest term; this is the number of x=0
+        int numberOfZeroIntercepts = 0;
+        while (p[numberOfZeroIntercepts].signum() == 0) {
+            numberOfZeroIntercepts++;
+        }
         if (numberOfZeroIntercepts > 0) {
             roots.add(new Root());
+            roots.get(0).setMultiplicity(numberOfZeroIntercepts);
+            p = Arrays.copyOfRange(p, numberOfZeroIntercepts, p.length);
         }
 
-        // no more solutions because the remaining "factor" is a constant
-        if (size == 1) {
-            return roots;
-        }
-
-        normalizeTerms(terms, getLcmForDenominators(terms), numberOfZeroIntercepts);
-        runRationalRootTheorem(roots, terms);
-
-        // check and solve for quadratic
-        if (terms.size() > 1 && !checkSolveQuadratic(roots, terms)) {
-            // add real number solutions
-            checkFindRealRoots(roots, terms);
+        // no more solutions once the remaining "factor" is a constant
+        p = ZMathUtil.getDegree(p) >= 1 ? runRationalRootTheorem(roots, p) : p;
+        if (ZMathUtil.getDegree(p) >= 1) {
+            roots.addAll(solveForFactors(p, solver, interlacingSolver == null ? pool : null, interlacingSolver));
         }
 
         // return all the coefficients as a list
@@ -152,120 +214,263 @@ public class Root implements Comparable<Root>  {
         return roots;
     }
 
-    // Gets the lowest common multiple of the denominator
-    // EFFECTS: gets the lcm
-    private static int getLcmForDenominators(List<Term> terms) {
-        // get LCM of the denominators
-        int lcm = 1;
-        for (Term term : terms) {
-            int denominator = term.getDenominator();
+    // Gets all complex roots (aka solutions for p(x) = 0) of the function, listed once per multiplicity
+    // EFFECTS: Gets the complex roots
+    public static List<ComplexRoot> solveForComplexRoots(Polynomial polynomial) {
+        return solveForComplexRoots(polynomial, new AberthSolver());
+    }
 
-            if (denominator > 1) {
-                lcm = NMathUtil.getLCM(lcm,denominator);
-            }
+    // Gets all complex roots (aka solutions for p(x) = 0) of the function with the given solver,
+    // listed once per multiplicity
+    // EFFECTS: Gets the complex roots
+    public static List<ComplexRoot> solveForComplexRoots(Polynomial polynomial, IRootSolver solver) {
+        List<ComplexRoot> roots = new ArrayList<>();
+        List<Term> terms = polynomial.getTerms();
+        if (terms.isEmpty()) {
+            return roots;
         }
 
-        return lcm;
+        // factor out x=0 from polynomial, once per multiplicity
+        int numberOfZeroIntercepts = terms.get(0).getDegree();
+        for (int i = 0; i < numberOfZeroIntercepts; i++) {
+            roots.add(new ComplexRoot(0, 0));
+        }
+
+        if (terms.size() > 1) {
+            roots.addAll(solver.solve(getCoefficients(terms, numberOfZeroIntercepts)));
+        }
+
+        Collections.sort(roots);
+        return roots;
     }
 
-    // Normalizes the polynomial such that the x's are factored out
-    // and the coefficients are integers (multiply all by lcm)
-    // MODIFIES: list of terms
-    // EFFECTS: Normalizes the polynomial
-    private static void normalizeTerms(List<Term> terms, int lcm, int numberOfZeroIntercepts) {
-        // subtract the degree, increase numerator to integer-normalized value, and set denominator to 1
+    // Gets the coefficients of the terms as doubles indexed by degree, after factoring out x^shift
+    // REQUIRES: shift <= degree of the lowest degree term
+    // EFFECTS: gets the coefficients
+    private static double[] getCoefficients(List<Term> terms, int shift) {
+        double[] coefficients = new double[terms.get(terms.size() - 1).getDegree() - shift + 1];
         for (Term term : terms) {
-            term.setDegree(term.getDegree() - numberOfZeroIntercepts);
-            term.setNumerator(term.getNumerator() * lcm);
-            term.setDenominator(1); // for coverage; redundant
+            coefficients[term.getDegree() - shift] = term.getCoefficient();
         }
+        return coefficients;
     }
 
     // checks for and adds rational coefficients based on the Rational Root Theorem
     // also, factors out the rational components found in the polynomial
-    // REQUIRES: normalized terms (denominators are all 1)
-    // MODIFIES: roots, normalized terms
-    // EFFECTS: checks for and adds rational coefficients
-    private static void runRationalRootTheorem(List<Root> roots, List<Term> normalizedTerms) {
-        // get factors for leading coefficient and constant (both now an integer)
-        int lastPos = normalizedTerms.size() - 1;
-        int leadingCoefficient = normalizedTerms.get(lastPos).getNumerator();
-        List<Integer> leadingCoefficientFactors = NMathUtil.getFactors(Math.abs(leadingCoefficient));
-        int constant = normalizedTerms.get(0).getNumerator();
-        List<Integer> constantFactors = NMathUtil.getFactors(Math.abs(constant));
-
-        // use epsilon and absolute value to account for rounding error
+    // each candidate n/d is only tried in lowest terms, and only if it passes the cheap filters in isCandidate
+    // REQUIRES: integer polynomial of degree >= 1 with a non-zero constant
+    // MODIFIES: roots
+    // EFFECTS: checks for and adds rational coefficients, and returns the polynomial with them factored out
+    private static BigInteger[] runRationalRootTheorem(List<Root> roots, BigInteger[] p) {
+        // get factors for leading coefficient and constant
+        // coefficients too large to factor are skipped, since their roots are still isolated exactly later on;
+        // the magnitudes are checked, since -2^31 fits in an int but its magnitude doesn't
+        BigInteger leadingCoefficient = p[p.length - 1].abs();
+        BigInteger constant = p[0].abs();
+        if (leadingCoefficient.bitLength() >= Integer.SIZE || constant.bitLength() >= Integer.SIZE) {
+            return p;
+        }
+        List<Integer> leadingCoefficientFactors = NMathUtil.getFactors(leadingCoefficient.intValue());
+        List<Integer> constantFactors = NMathUtil.getFactors(constant.intValue());
+
+        // the filters only need the original polynomial, since its rational roots are the deflated one's too
+        BigInteger[] filterValues = {getValueAtOne(p, false), getValueAtOne(p, true)};
+        double rootBound = ZMathUtil.getRootBound(p);
         for (Integer n : constantFactors) {
             for (Integer d : leadingCoefficientFactors) {
-                double pointValPositive = Polynomial.evaluateAtPoint((double)(n) / d, normalizedTerms);
-                if (RMathUtil.approximatelyEqualToZero(pointValPositive)) {
-                    roots.add(new Root(n, d));
-                    factorOut(n, d, normalizedTerms);
-                }
-                double pointValNegative = Polynomial.evaluateAtPoint((double)(-n) / d, normalizedTerms);
-                if (RMathUtil.approximatelyEqualToZero(pointValNegative)) {
-                    roots.add(new Root(-n, d));
-                    factorOut(-n, d, normalizedTerms);
+                for (int candidate : new int[] {n, -n}) {
+                    if (ZMathUtil.getDegree(p) >= 1 && isCandidate(candidate, d, filterValues, rootBound)) {
+                        p = factorOut(roots, candidate, d, p);
+                    }
                 }
             }
         }
+
+        return p;
+    }
+
+    // Returns p(1), or p(-1) if negated, i.e. the sum of the coefficients or their alternating sum
+    // EFFECTS: Returns p(1) or p(-1)
+    private static BigInteger getValueAtOne(BigInteger[] p, boolean negated) {
+        BigInteger value = BigInteger.ZERO;
+        for (int i = 0; i < p.length; i++) {
+            value = negated && i % 2 != 0 ? value.subtract(p[i]) : value.add(p[i]);
+        }
+        return value;
+    }
+
+    // Returns whether n/d could be a root, without dividing: it must be in lowest terms and within the root bound,
+    // and since p(x) = (dx - n)q(x) with q in Z[x], d - n must divide p(1) = (d - n)q(1) and d + n must divide
+    // p(-1) = -(d + n)q(-1)
+    // REQUIRES: d > 0, filterValues = {p(1), p(-1)}
+    // EFFECTS: Returns whether n/d passes the filters
+    private static boolean isCandidate(int n, int d, BigInteger[] filterValues, double rootBound) {
+        if (NMathUtil.getGCD(Math.abs(n), d) != 1 || Math.abs((double) n / d) > rootBound) {
+            return false;
+        }
+        return divides((long) d - n, filterValues[0]) && divides((long) d + n, filterValues[1]);
+    }
+
+    // EFFECTS: Returns whether the divisor divides the value (where only zero is divisible by zero)
+    private static boolean divides(long divisor, BigInteger value) {
+        if (divisor == 0) {
+            return value.signum() == 0;
+        }
+        return value.mod(BigInteger.valueOf(Math.abs(divisor))).signum() == 0;
+    }
+
+    // factors out rational solutions from polynomial, by exactly dividing by (dx - n) until it no longer divides,
+    // and adds the root if it divided at least once
+    // REQUIRES: d > 0, degree of p >= 1
+    // MODIFIES: roots
+    // EFFECTS: adds the root with its multiplicity, and returns the polynomial with the root factored out
+    private static BigInteger[] factorOut(List<Root> roots, int n, int d, BigInteger[] p) {
+        int multiplicity = 0;
+        for (BigInteger[] quotient = getLinearQuotient(p, n, d); quotient.length > 0; ) {
+            p = quotient;
+            multiplicity++;
+            quotient = ZMathUtil.getDegree(p) >= 1 ? getLinearQuotient(p, n, d) : new BigInteger[0];
+        }
+
+        if (multiplicity > 0) {
+            roots.add(new Root(n, d));
+            roots.get(roots.size() - 1).setMultiplicity(multiplicity);
+        }
+        return p;
+    }
+
+    // divides p by (dx - n) with synthetic division, in longs unless a coefficient or step overflows them
+    // REQUIRES: d > 0, degree of p >= 1
+    // EFFECTS: Returns the quotient, or an empty array if (dx - n) doesn't divide p
+    private static BigInteger[] getLinearQuotient(BigInteger[] p, int n, int d) {
+        try {
+            return ZMathUtil.fromLongs(ZMathUtil.getSyntheticQuotient(ZMathUtil.toLongs(p), n, d));
+        } catch (ArithmeticException e) {
+            return ZMathUtil.getSyntheticQuotient(p, BigInteger.valueOf(n), BigInteger.valueOf(d));
+        }
+    }
+
+    // solves each irreducible factor of each square-free factor separately, since they're smaller and their roots
+    // are all simple. The factors are solved in parallel on the pool (if any) when they're isolated exactly; the
+    // all-roots solvers keep state between calls, so they're never shared between threads
+    // REQUIRES: polynomial of degree >= 1
+    // EFFECTS: Returns the roots of the factors, in the order of the factors
+    private static List<Root> solveForFactors(BigInteger[] p, IRootSolver solver, ForkJoinPool pool,
+                                              InterlacingSolver interlacingSolver) {
+        boolean isParallel = pool != null && solver == null && ZMathUtil.getDegree(p) >= MIN_PARALLEL_DEGREE;
+        List<ForkJoinTask<List<Root>>> tasks = getFactorTasks(p, solver, isParallel, interlacingSolver);
+        if (isParallel) {
+            pool.invoke(ForkJoinTask.adapt(() -> invokeTasks(tasks, true)));
+        } else {
+            invokeTasks(tasks, false);
+        }
+
+        List<Root> roots = new ArrayList<>();
+        for (ForkJoinTask<List<Root>> task : tasks) {
+            roots.addAll(task.join());
+        }
+        return roots;
+    }
+
+    // factors the polynomial, and makes a task to solve each irreducible factor
+    // REQUIRES: polynomial of degree >= 1
+    // EFFECTS: Returns the tasks, in the order of the factors
+    private static List<ForkJoinTask<List<Root>>> getFactorTasks(BigInteger[] p, IRootSolver solver,
+                                                                 boolean isParallel,
+                                                                 InterlacingSolver interlacingSolver) {
+        List<ForkJoinTask<List<Root>>> tasks = new ArrayList<>();
+        List<BigInteger[]> squareFreeFactors = ZMathUtil.getSquareFreeFactorization(p);
+        PolynomialFactorizer factorizer = new PolynomialFactorizer();
+        for (int i = 0; i < squareFreeFactors.size(); i++) {
+            if (ZMathUtil.getDegree(squareFreeFactors.get(i)) < 1) {
+                continue;
+            }
+            int multiplicity = i + 1;
+            for (BigInteger[] factor : factorizer.factorSquareFree(squareFreeFactors.get(i))) {
+                tasks.add(ForkJoinTask.adapt(() -> solveForSquareFreeFactor(factor, multiplicity, solver,
+                        isParallel, interlacingSolver)));
+            }
+        }
+        return tasks;
+    }
+
+    // runs the tasks, all at once in the current pool if they're parallel, and otherwise one by one on this thread
+    // EFFECTS: runs the tasks
+    private static <T> void invokeTasks(List<ForkJoinTask<T>> tasks, boolean isParallel) {
+        if (isParallel) {
+            ForkJoinTask.invokeAll(tasks);
+        } else {
+            for (ForkJoinTask<T> task : tasks) {
+                task.invoke();
+            }
+        }
     }
 
-    // factors out rational solutions from polynomial
-    // REQUIRES: normalized terms that can be factored at least once by the input
-    // MODIFIES: normalized terms
-    // EFFECTS: factors out rational solution from polynomial
-    private static void factorOut(int n, int d, List<Term> normalizedTerms) {
-        int size = normalizedTerms.size();
-        Term nextTerm = normalizedTerms.remove(size - 1);
-        int newDegree = nextTerm.getDegree() - 1;
-        int remainder = nextTerm.getNumerator() / d;
-
-        // look at terms with in reverse order (highest degree first)
-        for (int i = size - 2; i >= 0; i--) {
-            nextTerm = normalizedTerms.remove(i);
-            int nextDegree = nextTerm.getDegree();
-
-            while (newDegree >= nextDegree) {
-                normalizedTerms.add(i, new Term(remainder, 1, newDegree));
-                if (newDegree == nextDegree) {
-                    remainder = (nextTerm.getNumerator() + (remainder * n)) / d;
-                } else {
-                    remainder = (remainder * n) / d;
+    // solves a square-free factor of the polynomial, and tags its roots with the factor's multiplicity
+    // REQUIRES: square-free factor of degree >= 1 (irreducible, unless the factorizer ran out of its budget)
+    // EFFECTS: returns the real roots of the factor
+    private static List<Root> solveForSquareFreeFactor(BigInteger[] factor, int multiplicity, IRootSolver solver,
+                                                       boolean isParallel, InterlacingSolver interlacingSolver) {
+        List<Root> factorRoots = new ArrayList<>();
+        if (!checkSolveLinear(factorRoots, factor) && !checkSolveQuadratic(factorRoots, factor)
+                && !checkSolveCubicOrQuartic(factorRoots, factor)) {
+            // add real number solutions
+            if (interlacingSolver != null) {
+                for (double value : interlacingSolver.findRealRoots(factor)) {
+                    factorRoots.add(new Root(value));
                 }
-                newDegree--;
+            } else if (solver == null) {
+                checkFindRealRoots(factorRoots, factor, isParallel);
+            } else {
+                addRealRootsFromSolver(factorRoots, factor, solver);
             }
         }
 
-        // recursive; factor out completely
-        double pointValPositive = Polynomial.evaluateAtPoint((double)(n) / d, normalizedTerms);
-        if (RMathUtil.approximatelyEqualToZero(pointValPositive)) {
-            factorOut(n, d, normalizedTerms);
+        for (Root root : factorRoots) {
+            root.setMultiplicity(multiplicity);
+        }
+        return factorRoots;
+    }
+
+    // check for and solves linear function ax + b, which is only left over when the coefficients were too large
+    // for the Rational Root Theorem, so the root is kept as a fraction only if it fits
+    // MODIFIES: roots
+    // EFFECTS: check for and solves linear function
+    private static boolean checkSolveLinear(List<Root> roots, BigInteger[] p) {
+        if (ZMathUtil.getDegree(p) != 1) {
+            return false;
+        }
+
+        if (p[0].bitLength() < Integer.SIZE - 1 && p[1].bitLength() < Integer.SIZE - 1) {
+            roots.add(new Root(-p[0].intValue(), p[1].intValue()));
+        } else {
+            roots.add(new Root(new BigDecimal(p[0]).negate().divide(new BigDecimal(p[1]), MathContext.DECIMAL64)
+                    .doubleValue()));
         }
+        return true;
     }
 
     // check for and solves quadratic function
     // at this point, assume no rationals exists (and has such aren't ax + b)
-    // MODIFIES: normalized terms
-    // REQUIRES: normalized term is not of form ax + b
+    // coefficients too large for the exact form are solved numerically instead
+    // MODIFIES: roots
+    // REQUIRES: polynomial is not of form ax + b
     // EFFECTS: check for and solves quadratic function
-    private static boolean checkSolveQuadratic(List<Root> roots, List<Term> normalizedTerms) {
-        int a = 0;
-        int b = 0;
-        int c = 0;
-
-        for (Term term : normalizedTerms) {
-            if (term.getDegree() == 0) {
-                c = term.getNumerator();
-            } else if (term.getDegree() == 1) {
-                b = term.getNumerator();
-            } else if (term.getDegree() == 2) {
-                a = term.getNumerator();
-            } else {
-                return false; // NOT a quadratic
+    private static boolean checkSolveQuadratic(List<Root> roots, BigInteger[] p) {
+        if (ZMathUtil.getDegree(p) != 2) {
+            return false; // NOT a quadratic
+        }
+
+        BigInteger rootedPart = p[1].multiply(p[1]).subtract(BigInteger.valueOf(4).multiply(p[2]).multiply(p[0]));
+        if (rootedPart.bitLength() < Integer.SIZE - 1 && p[1].bitLength() < Integer.SIZE - 1
+                && p[2].bitLength() < Integer.SIZE - 2) {
+            checkSolveQuadratic(roots, p[2].intValue(), p[1].intValue(), p[0].intValue());
+        } else {
+            double[] c = ZMathUtil.toScaledDoubles(p);
+            for (double value : ClosedFormSolver.solveQuadratic(c[2], c[1], c[0])) {
+                roots.add(new Root(value));
             }
         }
-        checkSolveQuadratic(roots, a, b, c);
         return true;
     }
 
@@ -288,98 +493,82 @@ public class Root implements Comparable<Root>  {
         }
     }
 
+    // check for and solves cubic and quartic functions, with the closed form only as a seed: its roots are bracketed
+    // and refined like any other, and only used if there are as many brackets as the Sturm sequence has real roots,
+    // since rounding in the closed form can misplace roots or even miscount them
+    // MODIFIES: roots
+    // REQUIRES: square-free polynomial that is not of form ax + b, and has no rational roots
+    // EFFECTS: check for and solves cubic and quartic functions
+    private static boolean checkSolveCubicOrQuartic(List<Root> roots, BigInteger[] p) {
+        int degree = ZMathUtil.getDegree(p);
+        if (degree != 3 && degree != 4) {
+            return false;
+        }
+
+        double[] c = ZMathUtil.toScaledDoubles(p);
+        double[] values = degree == 3
+                ? ClosedFormSolver.solveCubic(c[3], c[2], c[1], c[0])
+                : ClosedFormSolver.solveQuartic(c[4], c[3], c[2], c[1], c[0]);
+        Arrays.sort(values);
+        if (values.length > 0 && !Double.isFinite(values[0] + values[values.length - 1])) {
+            return false; // NaN sorts last, and infinities at either end
+        }
+
+        RootRefiner rootRefiner = new RootRefiner(p);
+        double[][] brackets = rootRefiner.bracketRoots(values, ZMathUtil.getRootBound(p));
+        if (brackets == null || brackets.length != new SturmSequence(p).countRealRoots()) {
+            return false; // the roots are isolated exactly instead
+        }
+
+        for (double[] bracket : brackets) {
+            roots.add(bracket[0] == bracket[1] ? new Root(bracket[0])
+                    : getSolutionFromRange(rootRefiner, bracket[0], bracket[1]));
+        }
+        return true;
+    }
+
     // check for and find real number roots
-    // MODIFIES: roots, normalized terms
+    // the roots are isolated exactly with the Vincent-Collins-Akritas method, so each interval holds exactly one
+    // simple root with a sign change; if it's parallel, the isolation and the refinement of each interval are
+    // split into tasks in the current pool
+    // MODIFIES: roots
+    // REQUIRES: square-free polynomial
     // EFFECTS: check for and find real number roots
-    private static void checkFindRealRoots(List<Root> roots, List<Term> normalizedTerms) {
-        checkBetweenZeroAndOne(roots, normalizedTerms);
-        checkBetweenOneAndInfinity(roots, normalizedTerms, true);
-        checkBetweenOneAndInfinity(roots, normalizedTerms, false);
-    }
-
-    // check for and find real number roots between -1 and +1
-    // MODIFIES: roots, normalized terms
-    // EFFECTS: check for and find real number roots between -1 and +1
-    private static void checkBetweenZeroAndOne(List<Root> roots, List<Term> normalizedTerms) {
-        double point = -1;
-        double lastSolution = Polynomial.evaluateAtPoint(point, normalizedTerms);
-
-        // check for roots between -1 and 1
-        while (point < 1) {
-            point += DELTA;
-
-            double currentSolution = Polynomial.evaluateAtPoint(point, normalizedTerms);
-            if (RMathUtil.signsAreOpposites(lastSolution, currentSolution)) {
-                addSolutionFromRange(roots, normalizedTerms, point - DELTA, point);
-            }
-            lastSolution = currentSolution;
-        }
-    }
-
-    // check for and find real number roots between 1 and infinity, or -1 and -infinity.
-    // the code is able to do this in finite time by using evaluating on p(x) / ax^n,
-    // where ax^n is the greatest term in the polynomial p(x).
-    // both p(x) and p(x) / ax^n share the same roots, but as x approaches either ends of infinity,
-    // the evaluation for later approaches 1.
-    // MODIFIES: roots, normalized terms
-    // EFFECTS: check for and find real number roots between 1 and infinity, or -1 and -infinity.
-    private static void checkBetweenOneAndInfinity(List<Root> roots,
-                                                   List<Term> normalizedTerms,
-                                                   boolean isPositive) {
-        double point = isPositive ? 1 : -1;
-        Term greatestTerm = normalizedTerms.get(normalizedTerms.size() - 1);
-        double lastSolution = Polynomial.evaluateAtPoint(point, normalizedTerms) / greatestTerm.evaluateAtPoint(point);
-        double currentSolution;
-
-        // check for roots towards +infinity
-        // uses a cool trick where p(x) / leading term approaches 1 towards both infinities
-        // stop when value
-        int deltasSinceLastSignificantEvent = 0;
-        double lastDifference = 1; // placeholder
-        while (lastSolution < 0 || deltasSinceLastSignificantEvent < 10000) {
-            point += (DELTA * (isPositive ? 1 : -1));
-            currentSolution = Polynomial.evaluateAtPoint(point, normalizedTerms) / greatestTerm.evaluateAtPoint(point);
-
-            if (RMathUtil.signsAreOpposites(lastSolution, currentSolution)) {
-                addSolutionFromRange(roots, normalizedTerms, point - (DELTA * (isPositive ? 1 : -1)), point);
-                deltasSinceLastSignificantEvent = 0;
-            }
+    private static void checkFindRealRoots(List<Root> roots, BigInteger[] p, boolean isParallel) {
+        RootRefiner rootRefiner = new RootRefiner(p);
 
-            if (lastSolution > 0 && lastSolution < 2
-                    && Math.abs(lastDifference) < DELTA / 10) { // slope: m < 1/10
-                deltasSinceLastSignificantEvent++;
-            } else {
-                deltasSinceLastSignificantEvent = 0;
-            }
-            lastDifference = lastSolution - currentSolution;
-            lastSolution = currentSolution;
+        List<ForkJoinTask<Root>> tasks = new ArrayList<>();
+        for (IsolatingInterval interval : new DescartesIsolator(isParallel).isolateRoots(p)) {
+            tasks.add(ForkJoinTask.adapt(() -> interval.isExactRoot() ? new Root(interval.getLeft())
+                    : getSolutionFromRange(rootRefiner, interval.getLeft(), interval.getRight())));
+        }
+
+        invokeTasks(tasks, isParallel);
+        for (ForkJoinTask<Root> task : tasks) {
+            roots.add(task.join());
         }
     }
 
     // check for and find a real number root from a given range.
-    // uses intermediate value theorem and approximates the correct answer to 9 decimal places
-    // MODIFIES: roots, normalized terms
-    // REQUIRES: there's one and exactly one solution within the given range
-    // EFFECTS: check for and find a real number root from a given range
-    private static void addSolutionFromRange(List<Root> roots,
-                                             List<Term> normalizedTerms,
-                                             double left, double right) {
-        double leftValue = Polynomial.evaluateAtPoint(left, normalizedTerms);
-        double midPoint = (left + right) / 2;
-        double value = Polynomial.evaluateAtPoint(midPoint, normalizedTerms);
-
-        while (!RMathUtil.approximatelyEqualToZero(value)) {
-            if ((0 < value && value < leftValue) || (0 > value && value > leftValue)) {
-                left = midPoint;
-                leftValue = value;
-            } else {
-                right = midPoint;
+    // uses a safeguarded Newton/Illinois refinement that's guaranteed to terminate
+    // REQUIRES: there's one and exactly one solution within the given range, with a sign change
+    // EFFECTS: find a real number root from a given range
+    private static Root getSolutionFromRange(RootRefiner rootRefiner, double left, double right) {
+        return new Root(rootRefiner.refine(left, right).getValue());
+    }
+
+    // find the real number roots with an all-roots solver, keeping each distinct real root once
+    // MODIFIES: roots
+    // EFFECTS: find the real number roots with the solver
+    private static void addRealRootsFromSolver(List<Root> roots, BigInteger[] p, IRootSolver solver) {
+        double lastValue = Double.NaN;
+        for (ComplexRoot complexRoot : solver.solve(ZMathUtil.toScaledDoubles(p))) {
+            double value = complexRoot.getReal();
+            boolean isRepeated = Math.abs(value - lastValue) <= SOLVER_TOLERANCE * Math.max(1, Math.abs(value));
+            if (complexRoot.isReal() && !isRepeated) {
+                roots.add(new Root(value));
+                lastValue = value;
             }
-            midPoint = (left + right) / 2;
-            value = Polynomial.evaluateAtPoint(midPoint, normalizedTerms);
         }
-
-        roots.add(new Root(midPoint));
     }
-
 }
@@ -0,0 +1,242 @@
+package model;
+
+import java.math.BigInteger;
+import java.util.List;
+
+/*
+ * Refines a real root of a polynomial from a bracketing interval [left, right] with a sign change.
+ * Uses Newton's method (https://en.wikipedia.org/wiki/Newton%27s_method) for quadratic convergence,
+ * safeguarded by the Illinois variant of regula falsi (https://en.wikipedia.org/wiki/Regula_falsi#The_Illinois_algorithm)
+ * whenever the Newton step leaves the bracket or doesn't shrink it fast enough.
+ * Signs within the rounding error of evaluating p(x) are certified with an AdaptiveEvaluator, so the bracket
+ * keeps shrinking correctly even among clustered roots.
+ * The refinement always terminates: it stops on interval width, an exact root, or an iteration cap,
+ * whichever comes first, and reports which criterion stopped it.
+ */
+public class RootRefiner {
+    private static final int MAX_ITERATIONS = 100;
+    private static final double WIDTH_TOLERANCE = 4 * Math.ulp(1.0);
+    private static final double RESIDUAL_TOLERANCE = 2 * Math.ulp(1.0);
+
+    private final double[] coefficients;
+    private final AdaptiveEvaluator adaptiveEvaluator;
+
+    /*
+     * The criterion which stopped the refinement
+     */
+    public enum StopCriterion {
+        INTERVAL_WIDTH,    // the bracket is as narrow as doubles allow
+        RESIDUAL,          // p(x) is exactly zero
+        ITERATION_LIMIT    // the iteration cap was reached
+    }
+
+    /*
+     * The refined root along with how it was found
+     */
+    public static class Result {
+        private final double value;
+        private final StopCriterion stopCriterion;
+        private final int iterations;
+
+        // EFFECTS: constructs a refinement result
+        public Result(double value, StopCriterion stopCriterion, int iterations) {
+            this.value = value;
+            this.stopCriterion = stopCriterion;
+            this.iterations = iterations;
+        }
+
+        public double getValue() {
+            return value;
+        }
+
+        public StopCriterion getStopCriterion() {
+            return stopCriterion;
+        }
+
+        public int getIterations() {
+            return iterations;
+        }
+    }
+
+    /*
+     * The bracket [left, right] around the root, with the values of p at its ends (which the Illinois
+     * modification halves on the side that's retained twice in a row)
+     */
+    private static class Bracket {
+        private double left;
+        private double leftValue;
+        private double right;
+        private double rightValue;
+        private int retainedSide; // -1 if left was retained by the last step, 1 if right was
+
+        // EFFECTS: constructs the bracket
+        private Bracket(double left, double leftValue, double right, double rightValue) {
+            this.left = left;
+            this.leftValue = leftValue;
+            this.right = right;
+            this.rightValue = rightValue;
+        }
+
+        // Replaces the end of the bracket that has the same sign as p(x) with x
+        // REQUIRES: left < point < right, and value != 0
+        // MODIFIES: this
+        // EFFECTS: narrows the bracket to the side of the point with the sign change
+        private void narrow(double point, double value) {
+            if (RMathUtil.signsAreOpposites(leftValue, value)) {
+                right = point;
+                rightValue = value;
+                leftValue = retainedSide == -1 ? leftValue / 2 : leftValue; // Illinois modification
+                retainedSide = -1;
+            } else {
+                left = point;
+                leftValue = value;
+                rightValue = retainedSide == 1 ? rightValue / 2 : rightValue; // Illinois modification
+                retainedSide = 1;
+            }
+        }
+
+        // EFFECTS: Returns whether the bracket is as narrow as doubles allow
+        private boolean isNarrow() {
+            return right - left <= WIDTH_TOLERANCE * Math.max(Math.abs(left), Math.abs(right));
+        }
+    }
+
+    // Constructs a root refiner for the normalized terms
+    // REQUIRES: normalized terms (denominators are all 1)
+    // EFFECTS: Constructs a root refiner
+    public RootRefiner(List<Term> normalizedTerms) {
+        this(ZMathUtil.fromTerms(normalizedTerms));
+    }
+
+    // Constructs a root refiner for the integer polynomial
+    // EFFECTS: Constructs a root refiner
+    public RootRefiner(BigInteger[] p) {
+        coefficients = ZMathUtil.toScaledDoubles(p);
+        adaptiveEvaluator = new AdaptiveEvaluator(p);
+    }
+
+    // Refines the root within [left, right]
+    // REQUIRES: p(left) and p(right) have opposite signs
+    // EFFECTS: Returns the refined root and the criterion that stopped the refinement
+    public Result refine(double left, double right) {
+        Bracket bracket = new Bracket(left, getCertifiedValue(left, evaluateAtPoint(left)), right,
+                getCertifiedValue(right, evaluateAtPoint(right)));
+        double point = (left + right) / 2;
+        double step = right - left; // the step that led to the point
+
+        for (int iteration = 1; iteration <= MAX_ITERATIONS; iteration++) {
+            double[] evaluation = evaluateAtPoint(point);
+            double value = getCertifiedValue(point, evaluation);
+            if (value == 0) {
+                return new Result(point, StopCriterion.RESIDUAL, iteration);
+            }
+
+            bracket.narrow(point, value);
+            if (bracket.isNarrow()) {
+                return new Result(point, StopCriterion.INTERVAL_WIDTH, iteration);
+            }
+            double nextPoint = getNextPoint(point, value, evaluation[1], step, bracket);
+            step = Math.abs(nextPoint - point);
+            point = nextPoint;
+        }
+
+        return new Result(point, StopCriterion.ITERATION_LIMIT, MAX_ITERATIONS);
+    }
+
+    // Returns p(x) from the evaluation if it's outside the rounding error of evaluating p(x); otherwise its sign
+    // is meaningless, so p(x) is evaluated again with enough precision to be sure of it (see AdaptiveEvaluator)
+    // EFFECTS: Returns p(x) with the correct sign
+    private double getCertifiedValue(double point, double[] evaluation) {
+        if (Math.abs(evaluation[0]) > RESIDUAL_TOLERANCE * evaluation[2]) {
+            return evaluation[0];
+        }
+        return adaptiveEvaluator.evaluateAtPoint(point);
+    }
+
+    // Returns the next point to evaluate: the Newton step if it stays inside the bracket and is less than half of
+    // the step before it (so that it's converging at least as fast as bisection would), otherwise the Illinois
+    // step, otherwise the midpoint
+    // EFFECTS: Returns the next point to evaluate
+    private static double getNextPoint(double point, double value, double slope, double step, Bracket bracket) {
+        double newtonStep = value / slope;
+        // a step of less than an ulp is stretched to one, so that it lands past the root and closes the bracket
+        double newtonPoint = point - (Math.abs(newtonStep) < Math.ulp(point) ? Math.copySign(Math.ulp(point),
+                newtonStep) : newtonStep);
+        if (bracket.left < newtonPoint && newtonPoint < bracket.right && Math.abs(newtonStep) < step / 2) {
+            return newtonPoint;
+        }
+
+        double falsePoint = (bracket.left * bracket.rightValue - bracket.right * bracket.leftValue)
+                / (bracket.rightValue - bracket.leftValue);
+        if (bracket.left < falsePoint && falsePoint < bracket.right) {
+            return falsePoint;
+        }
+
+        return bracket.left + (bracket.right - bracket.left) / 2;
+    }
+
+    // Brackets each of the approximate roots (i.e. from a closed form or a previous solve) by searching outward from
+    // it for a sign change, in steps that double from an ulp, without going past halfway to its neighbours or the
+    // bound. Each bracket holds an odd number of roots, so if there are as many brackets as distinct real roots,
+    // each holds exactly one
+    // REQUIRES: approximations in increasing order, all within (-bound, bound)
+    // EFFECTS: Returns the disjoint {left, right} brackets in increasing order (with left == right for an exact
+    //          root), or null if an approximation isn't near a root, or two of them can't be told apart
+    public double[][] bracketRoots(double[] approximations, double bound) {
+        double[][] brackets = new double[approximations.length][];
+        for (int i = 0; i < approximations.length; i++) {
+            if (i > 0 && approximations[i - 1] >= approximations[i]) {
+                return null;
+            }
+            double lowerLimit = i > 0 ? approximations[i - 1] / 2 + approximations[i] / 2 : -bound;
+            double upperLimit = i < approximations.length - 1
+                    ? approximations[i] / 2 + approximations[i + 1] / 2 : bound;
+            brackets[i] = bracketRoot(approximations[i], lowerLimit, upperLimit);
+            if (brackets[i] == null) {
+                return null;
+            }
+        }
+        return brackets;
+    }
+
+    // Brackets the approximate root within [lowerLimit, upperLimit] like above
+    // REQUIRES: lowerLimit <= approximation <= upperLimit
+    // EFFECTS: Returns the {left, right} bracket, or null if there's no sign change within the limits
+    private double[] bracketRoot(double approximation, double lowerLimit, double upperLimit) {
+        int sign = adaptiveEvaluator.getSign(approximation);
+        if (sign == 0) {
+            return new double[] {approximation, approximation};
+        }
+
+        double left = approximation;
+        double right = approximation;
+        for (double step = Math.ulp(approximation); left > lowerLimit || right < upperLimit; step *= 2) {
+            left = Math.max(approximation - step, lowerLimit);
+            right = Math.min(approximation + step, upperLimit);
+            if (adaptiveEvaluator.getSign(left) == -sign) {
+                return new double[] {left, approximation};
+            } else if (adaptiveEvaluator.getSign(right) == -sign) {
+                return new double[] {approximation, right};
+            }
+        }
+        return null;
+    }
+
+    // Evaluates the polynomial and its derivative at point x with Horner's method,
+    // along with the running error bound scale sum(|a_i| |x|^i)
+    // EFFECTS: Returns {p(x), p'(x), sum(|a_i| |x|^i)}
+    public double[] evaluateAtPoint(double point) {
+        double value = 0;
+        double slope = 0;
+        double magnitude = 0;
+        double absolutePoint = Math.abs(point);
+
+        for (int i = coefficients.length - 1; i >= 0; i--) {
+            slope = slope * point + value;
+            value = value * point + coefficients[i];
+            magnitude = magnitude * absolutePoint + Math.abs(coefficients[i]);
+        }
+
+        return new double[] {value, slope, magnitude * coefficients.length};
+    }
+}
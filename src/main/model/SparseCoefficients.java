@@ -0,0 +1,254 @@
+package model;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * Represents the coefficients of a very sparse polynomial (i.e. x^1000000 + 3x^7 - 1) as parallel arrays
+ * sorted by degree, so the memory used depends on the number of terms rather than the degree.
+ * A coefficient is looked up by binary search, and terms are added by merging.
+ * Like Term, each coefficient is kept in longs while it fits, and only coefficients that overflow are kept
+ * in the arbitrary-precision arrays, which aren't allocated until one does.
+ */
+public class SparseCoefficients implements ICoefficients {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] degrees;
+    private long[] numerators;
+    private long[] denominators;
+    private BigInteger[] bigNumerators;   // null unless a coefficient doesn't fit in longs
+    private BigInteger[] bigDenominators; // null unless a coefficient doesn't fit in longs
+    private int size;
+
+    // Constructs the coefficients of the zero polynomial
+    // EFFECTS: Constructs empty coefficients
+    public SparseCoefficients() {
+        degrees = new int[INITIAL_CAPACITY];
+        numerators = new long[INITIAL_CAPACITY];
+        denominators = new long[INITIAL_CAPACITY];
+    }
+
+    // Returns the degree of the highest non-zero coefficient (-1 for the zero polynomial)
+    @Override
+    public int getDegree() {
+        return size > 0 ? degrees[size - 1] : -1;
+    }
+
+    // Returns the number of non-zero coefficients
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // Returns whether the coefficient of x^degree is zero
+    // EFFECTS: Returns whether the coefficient is zero
+    @Override
+    public boolean isZero(int degree) {
+        return Arrays.binarySearch(degrees, 0, size, degree) < 0;
+    }
+
+    // Gets a copy of the term of x^degree
+    // EFFECTS: Returns the term (zero if there isn't one)
+    @Override
+    public Term get(int degree) {
+        int index = Arrays.binarySearch(degrees, 0, size, degree);
+        return index >= 0 ? getAt(index) : new Term(0, 1, degree);
+    }
+
+    // Adds the term to the coefficient of its degree, dropping it if they cancel out
+    // MODIFIES: this
+    // EFFECTS: Adds the term
+    @Override
+    public void add(Term term) {
+        if (term.isZero()) {
+            return;
+        }
+
+        int index = Arrays.binarySearch(degrees, 0, size, term.getDegree());
+        if (index < 0) {
+            index = -index - 1;
+            ensureCapacity(size + 1);
+            moveEntries(index, index + 1, size - index);
+            size++;
+            set(index, term);
+            return;
+        }
+
+        Term sum = getAt(index);
+        sum.combineTerm(term);
+        if (sum.isZero()) {
+            moveEntries(index + 1, index, size - index - 1);
+            size--;
+        } else {
+            set(index, sum);
+        }
+    }
+
+    // Adds the terms by merging them with the existing terms in a single pass from the highest degree down,
+    // so that no entry is moved more than once
+    // MODIFIES: this
+    // REQUIRES: terms in ascending order of degree, with no two of the same degree
+    // EFFECTS: Adds the terms
+    @Override
+    public void addAll(List<Term> orderedTerms) {
+        ensureCapacity(size + orderedTerms.size());
+        int read = size - 1;
+        int write = size + orderedTerms.size() - 1;
+        for (int i = orderedTerms.size() - 1; i >= 0; i--) {
+            Term term = orderedTerms.get(i);
+            while (read >= 0 && degrees[read] > term.getDegree()) {
+                moveEntries(read--, write--, 1);
+            }
+            if (read >= 0 && degrees[read] == term.getDegree()) {
+                term = term.createCopy();
+                term.combineTerm(getAt(read--));
+            }
+            set(write--, term);
+        }
+
+        // the remaining entries are already in place, so close the gap left by the combined terms
+        int mergedLength = size + orderedTerms.size() - write - 1;
+        moveEntries(write + 1, read + 1, mergedLength);
+        size = read + 1 + mergedLength;
+        removeZeroes();
+    }
+
+    // Gets copies of the non-zero terms
+    // EFFECTS: Returns the terms in ascending order of degree
+    @Override
+    public List<Term> getTerms() {
+        List<Term> terms = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            terms.add(getAt(i));
+        }
+        return terms;
+    }
+
+    // Evaluates the polynomial at point x with Horner's method over the gaps between degrees,
+    // i.e. ((a_n x^(n - m) + a_m) x^(m - k) + a_k) x^k, raising x to each gap by squaring
+    // EFFECTS: Returns the function result
+    @Override
+    public double evaluateAtPoint(double point) {
+        if (size == 0) {
+            return 0;
+        }
+
+        double sum = getCoefficient(size - 1);
+        for (int i = size - 2; i >= 0; i--) {
+            sum = sum * power(point, degrees[i + 1] - degrees[i]) + getCoefficient(i);
+        }
+        return sum * power(point, degrees[0]);
+    }
+
+    // Sets the coefficients to those of the zero polynomial
+    // MODIFIES: this
+    // EFFECTS: Removes all coefficients
+    @Override
+    public void clear() {
+        bigNumerators = null;
+        bigDenominators = null;
+        size = 0;
+    }
+
+    // Returns x^n by squaring, which takes O(log n) multiplications
+    // REQUIRES: n >= 0
+    // EFFECTS: Returns x^n
+    private static double power(double point, int n) {
+        double result = 1;
+        while (n > 0) {
+            if ((n & 1) != 0) {
+                result *= point;
+            }
+            point *= point;
+            n >>= 1;
+        }
+        return result;
+    }
+
+    // EFFECTS: Returns the coefficient of the entry at index as a double
+    private double getCoefficient(int index) {
+        if (bigNumerators != null && bigNumerators[index] != null) {
+            return getAt(index).getCoefficient();
+        }
+        return (double) numerators[index] / denominators[index];
+    }
+
+    // EFFECTS: Returns a copy of the term of the entry at index
+    private Term getAt(int index) {
+        if (bigNumerators != null && bigNumerators[index] != null) {
+            return new Term(bigNumerators[index], bigDenominators[index], degrees[index]);
+        }
+        return new Term(numerators[index], denominators[index], degrees[index]);
+    }
+
+    // Stores the term as the entry at index
+    // MODIFIES: this
+    // REQUIRES: index < capacity
+    // EFFECTS: Stores the term
+    private void set(int index, Term term) {
+        degrees[index] = term.getDegree();
+        if (term.isBigCoefficient()) {
+            if (bigNumerators == null) {
+                bigNumerators = new BigInteger[degrees.length];
+                bigDenominators = new BigInteger[degrees.length];
+            }
+            bigNumerators[index] = term.getBigNumerator();
+            bigDenominators[index] = term.getBigDenominator();
+            numerators[index] = 0;
+        } else {
+            if (bigNumerators != null) {
+                bigNumerators[index] = null;
+                bigDenominators[index] = null;
+            }
+            numerators[index] = term.getNumerator();
+            denominators[index] = term.getDenominator();
+        }
+    }
+
+    // Moves length entries starting at index from to start at index to
+    // MODIFIES: this
+    // REQUIRES: both ranges fit in the capacity
+    // EFFECTS: Moves the entries
+    private void moveEntries(int from, int to, int length) {
+        System.arraycopy(degrees, from, degrees, to, length);
+        System.arraycopy(numerators, from, numerators, to, length);
+        System.arraycopy(denominators, from, denominators, to, length);
+        if (bigNumerators != null) {
+            System.arraycopy(bigNumerators, from, bigNumerators, to, length);
+            System.arraycopy(bigDenominators, from, bigDenominators, to, length);
+        }
+    }
+
+    // Removes the entries that were combined into zero
+    // MODIFIES: this
+    // EFFECTS: Removes the zero entries
+    private void removeZeroes() {
+        int write = 0;
+        for (int read = 0; read < size; read++) {
+            if (numerators[read] != 0 || (bigNumerators != null && bigNumerators[read] != null)) {
+                moveEntries(read, write++, 1);
+            }
+        }
+        size = write;
+    }
+
+    // Grows the arrays (at least doubling them) so that they can hold the number of entries
+    // MODIFIES: this
+    // EFFECTS: Ensures the capacity
+    private void ensureCapacity(int capacity) {
+        if (capacity <= degrees.length) {
+            return;
+        }
+
+        capacity = Math.max(capacity, 2 * degrees.length);
+        degrees = Arrays.copyOf(degrees, capacity);
+        numerators = Arrays.copyOf(numerators, capacity);
+        denominators = Arrays.copyOf(denominators, capacity);
+        if (bigNumerators != null) {
+            bigNumerators = Arrays.copyOf(bigNumerators, capacity);
+            bigDenominators = Arrays.copyOf(bigDenominators, capacity);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package model;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Represents the Sturm sequence (https://en.wikipedia.org/wiki/Sturm%27s_theorem) of a polynomial.
+ * The number of distinct real roots is V(-infinity) - V(infinity), where V(x) is the number of sign changes
+ * of the sequence at x, which only depends on the degrees and leading coefficients of the sequence.
+ * The sequence is built with exact integer arithmetic, so the count is exact; it certifies roots that were found
+ * some other way (i.e. from a closed form, or the seeds of an InterlacingSolver), since isolating them is left to
+ * DescartesIsolator.
+ */
+public class SturmSequence {
+    private final List<Integer> degrees = new ArrayList<>();
+    private final List<Integer> leadingSigns = new ArrayList<>();
+
+    // Constructs the Sturm sequence of the integer polynomial
+    // REQUIRES: polynomial of degree >= 1
+    // EFFECTS: Constructs the Sturm sequence
+    public SturmSequence(BigInteger[] p) {
+        BigInteger[] previous = ZMathUtil.getPrimitivePart(p);
+        BigInteger[] current = ZMathUtil.getPrimitivePart(ZMathUtil.getDerivative(previous));
+        add(previous);
+
+        while (current.length > 0) {
+            add(current);
+            BigInteger[] next = getNegativeRemainder(previous, current);
+            previous = current;
+            current = next;
+        }
+    }
+
+    // Adds the polynomial to the sequence, of which only its degree and the sign of its leading coefficient matter
+    // MODIFIES: this
+    // EFFECTS: adds the polynomial
+    private void add(BigInteger[] p) {
+        int degree = ZMathUtil.getDegree(p);
+        degrees.add(degree);
+        leadingSigns.add(p[degree].signum());
+    }
+
+    // Returns -rem(a, b) up to a positive constant factor, reduced to its primitive part
+    // EFFECTS: Returns the next polynomial of the Sturm sequence
+    private static BigInteger[] getNegativeRemainder(BigInteger[] a, BigInteger[] b) {
+        BigInteger[] remainder = ZMathUtil.getPseudoRemainder(a, b);
+
+        // the pseudo-remainder is multiplied by lc(b)^k, which flips the sign if lc(b) < 0 and k is odd
+        int power = ZMathUtil.getDegree(a) - ZMathUtil.getDegree(b) + 1;
+        boolean isFlipped = b[b.length - 1].signum() < 0 && power % 2 == 1;
+        if (!isFlipped) {
+            remainder = ZMathUtil.negate(remainder);
+        }
+
+        return ZMathUtil.getPrimitivePart(remainder);
+    }
+
+    // Returns the number of distinct real roots of the polynomial
+    // EFFECTS: Returns the number of distinct real roots
+    public int countRealRoots() {
+        return countSignChangesAtInfinity(false) - countSignChangesAtInfinity(true);
+    }
+
+    // Returns the number of sign changes of the sequence at +infinity or -infinity
+    // EFFECTS: Returns the number of sign changes
+    private int countSignChangesAtInfinity(boolean isPositive) {
+        int signChanges = 0;
+        int lastSign = 0;
+
+        for (int i = 0; i < degrees.size(); i++) {
+            int sign = leadingSigns.get(i) * (isPositive || degrees.get(i) % 2 == 0 ? 1 : -1);
+            if (lastSign * sign < 0) {
+                signChanges++;
+            }
+            lastSign = sign;
+        }
+
+        return signChanges;
+    }
+}
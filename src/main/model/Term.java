@@ -1,11 +1,22 @@
 package model;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Objects;
+
 /*
  * Represents the term of a polynomial object
+ * The coefficient is an exact rational, kept in longs while it fits, and promoted to BigIntegers
+ * only when a long operation overflows (and demoted back once it fits again)
  */
 public class Term implements IDerivable {
-    private int numerator;
-    private int denominator;
+    private static final MathContext DOUBLE_CONTEXT = new MathContext(17);
+
+    private long numerator;
+    private long denominator;
+    private BigInteger bigNumerator;   // null unless the coefficient doesn't fit in longs
+    private BigInteger bigDenominator; // null unless the coefficient doesn't fit in longs
     private int degree;
 
     // Constructs a default term
@@ -41,12 +52,11 @@ public class Term implements IDerivable {
         }
 
         if (termStr.contains("/")) {
-            this.numerator = Integer.parseInt(termStr.split("/")[0]);
-            this.denominator = Integer.parseInt(termStr.split("/")[1]);
+            setCoefficient(new BigInteger(termStr.split("/")[0]), new BigInteger(termStr.split("/")[1]));
         } else if (termStr.split("-").length == 0) {
             this.numerator = -1;
         } else if (!termStr.equals("")) {
-            this.numerator = Integer.parseInt(termStr);
+            setCoefficient(new BigInteger(termStr), BigInteger.ONE);
         }
 
         simplify();
@@ -55,29 +65,66 @@ public class Term implements IDerivable {
     // Constructs a term
     // REQUIRES: denominator != 0; degree >= 0
     // EFFECTS: Constructs a term
-    public Term(int numerator, int denominator, int degree) {
-        this.numerator = numerator;
-        this.denominator = denominator;
+    public Term(long numerator, long denominator, int degree) {
         this.degree = degree;
-        simplify();
+        setCoefficient(numerator, denominator);
     }
 
-    public int getNumerator() {
-        return this.numerator;
+    // Constructs a term with an arbitrary-precision coefficient
+    // REQUIRES: denominator != 0; degree >= 0
+    // EFFECTS: Constructs a term
+    public Term(BigInteger numerator, BigInteger denominator, int degree) {
+        this.degree = degree;
+        setCoefficient(numerator, denominator);
     }
 
-    public void setNumerator(int numerator) {
-        this.numerator = numerator;
-        simplify();
+    // REQUIRES: the numerator fits in a long (throws ArithmeticException otherwise)
+    public long getNumerator() {
+        return bigNumerator == null ? this.numerator : bigNumerator.longValueExact();
     }
 
-    public int getDenominator() {
-        return this.denominator;
+    public void setNumerator(long numerator) {
+        if (bigNumerator == null) {
+            setCoefficient(numerator, this.denominator);
+        } else {
+            setCoefficient(BigInteger.valueOf(numerator), bigDenominator);
+        }
     }
 
-    public void setDenominator(int denominator) {
-        this.denominator = denominator;
-        simplify();
+    // REQUIRES: the denominator fits in a long (throws ArithmeticException otherwise)
+    public long getDenominator() {
+        return bigDenominator == null ? this.denominator : bigDenominator.longValueExact();
+    }
+
+    public void setDenominator(long denominator) {
+        if (bigNumerator == null) {
+            setCoefficient(this.numerator, denominator);
+        } else {
+            setCoefficient(bigNumerator, BigInteger.valueOf(denominator));
+        }
+    }
+
+    public BigInteger getBigNumerator() {
+        return bigNumerator == null ? BigInteger.valueOf(this.numerator) : bigNumerator;
+    }
+
+    public BigInteger getBigDenominator() {
+        return bigDenominator == null ? BigInteger.valueOf(this.denominator) : bigDenominator;
+    }
+
+    // Returns whether the coefficient needs arbitrary precision (i.e. it doesn't fit in longs)
+    // EFFECTS: Returns whether the coefficient is stored as BigIntegers
+    public boolean isBigCoefficient() {
+        return bigNumerator != null;
+    }
+
+    // Returns the coefficient as the closest double
+    // EFFECTS: Returns the coefficient
+    public double getCoefficient() {
+        if (bigNumerator == null) {
+            return (double) this.numerator / this.denominator;
+        }
+        return new BigDecimal(bigNumerator).divide(new BigDecimal(bigDenominator), DOUBLE_CONTEXT).doubleValue();
     }
 
     public int getDegree() {
@@ -91,20 +138,23 @@ public class Term implements IDerivable {
     // Returns whether the term is a zero (i.e. 0, 0x, 0x^2, etc)
     // EFFECTS: Returns whether the numerator is zero
     public boolean isZero() {
-        return numerator == 0;
+        return bigNumerator == null && numerator == 0;
     }
 
     // Returns whether the term is negative (i.e. -1, -x, -x^2, etc)
     // EFFECTS: Returns whether the numerator is negative
     public boolean isNegative() {
-        return numerator < 0;
+        return bigNumerator == null ? numerator < 0 : bigNumerator.signum() < 0;
     }
 
     // Evaluates the polynomial at point x
     // EFFECTS: Returns the function result
     @Override
     public double evaluateAtPoint(double point) {
-        return Math.pow(point, this.degree) * this.numerator / this.denominator;
+        if (bigNumerator == null) {
+            return Math.pow(point, this.degree) * this.numerator / this.denominator;
+        }
+        return Math.pow(point, this.degree) * getCoefficient();
     }
 
     // Combines two term and return true if their degrees are the same. Otherwise return false.
@@ -113,16 +163,32 @@ public class Term implements IDerivable {
     // EFFECTS: Combine two like terms
     public boolean combineTerm(Term term) {
         if (this.degree == term.degree) {
+            if (this.bigNumerator != null || term.bigNumerator != null || !combineCoefficientExactly(term)) {
+                BigInteger sum = getBigNumerator().multiply(term.getBigDenominator())
+                        .add(term.getBigNumerator().multiply(getBigDenominator()));
+                setCoefficient(sum, getBigDenominator().multiply(term.getBigDenominator()));
+            }
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    // Adds the coefficient of the term with long arithmetic
+    // MODIFIES: this
+    // REQUIRES: both coefficients fit in longs
+    // EFFECTS: Adds the coefficient and returns true, or returns false (leaving this unchanged) if it overflows
+    private boolean combineCoefficientExactly(Term term) {
+        try {
             if (this.denominator == term.denominator) {
-                this.numerator += term.numerator;
+                setCoefficient(Math.addExact(this.numerator, term.numerator), this.denominator);
             } else {
-                this.numerator *= term.denominator;
-                this.numerator += term.numerator * this.denominator;
-                this.denominator *= term.denominator;
-                simplify();
+                long sum = Math.addExact(Math.multiplyExact(this.numerator, term.denominator),
+                        Math.multiplyExact(term.numerator, this.denominator));
+                setCoefficient(sum, Math.multiplyExact(this.denominator, term.denominator));
             }
             return true;
-        } else {
+        } catch (ArithmeticException e) {
             return false;
         }
     }
@@ -132,8 +198,7 @@ public class Term implements IDerivable {
     // EFFECTS: Sets the term to zero
     @Override
     public void reset() {
-        this.numerator = 0;
-        this.denominator = 1;
+        setCoefficient(0, 1);
         this.degree = 0;
     }
 
@@ -143,9 +208,12 @@ public class Term implements IDerivable {
     @Override
     public void derive() {
         if (this.degree > 0) {
-            this.numerator *= this.degree;
+            if (bigNumerator == null && Math.abs(this.numerator) <= Long.MAX_VALUE / this.degree) {
+                setCoefficient(this.numerator * this.degree, this.denominator);
+            } else {
+                setCoefficient(getBigNumerator().multiply(BigInteger.valueOf(this.degree)), getBigDenominator());
+            }
             this.degree--;
-            simplify();
         } else {
             reset();
         }
@@ -163,7 +231,9 @@ public class Term implements IDerivable {
     // Gets the absolute value of the term (i.e. not negative)
     // EFFECTS: Gets the absolute value of the term
     public Term getAbs() {
-        if (this.numerator >= 0) {
+        if (bigNumerator != null) {
+            return new Term(bigNumerator.abs(), bigDenominator, this.degree);
+        } else if (this.numerator >= 0) {
             return new Term(this.numerator, this.denominator, this.degree);
         } else {
             return new Term(-this.numerator, this.denominator, this.degree);
@@ -173,6 +243,9 @@ public class Term implements IDerivable {
     // creates a copy of the term
     // EFFECTS: Returns the term copy
     public Term createCopy() {
+        if (bigNumerator != null) {
+            return new Term(bigNumerator, bigDenominator, this.degree);
+        }
         return new Term(this.numerator, this.denominator, this.degree);
     }
 
@@ -180,10 +253,10 @@ public class Term implements IDerivable {
     // EFFECTS: Returns the string of the coefficient
     @Override
     public String toString() {
-        String rational = numerator + "";
-        if (denominator > 1) {
-            rational += "/" + denominator;
-        } else if (degree > 0) {
+        String rational = getBigNumerator() + "";
+        if (getBigDenominator().compareTo(BigInteger.ONE) > 0) {
+            rational += "/" + getBigDenominator();
+        } else if (degree > 0 && bigNumerator == null) {
             if (numerator == -1) {
                 rational = "-";
             } else if (numerator == 1) {
@@ -202,21 +275,102 @@ public class Term implements IDerivable {
         }
     }
 
+    // Overriding equals() method of Object class; coefficients are always kept in simplest form (and in longs
+    // whenever they fit), so equal terms have the same degree and the same numerator and denominator
+    // EFFECTS: Returns whether the terms have the same degree and coefficient
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (!(o instanceof Term)) {
+            return false;
+        }
+
+        Term term = (Term) o;
+        if (degree != term.degree || isBigCoefficient() != term.isBigCoefficient()) {
+            return false;
+        } else if (isBigCoefficient()) {
+            return bigNumerator.equals(term.bigNumerator) && bigDenominator.equals(term.bigDenominator);
+        }
+        return numerator == term.numerator && denominator == term.denominator;
+    }
+
+    // Overriding hashCode() method of Object class
+    // EFFECTS: Returns the hash code of the degree and coefficient
+    @Override
+    public int hashCode() {
+        if (isBigCoefficient()) {
+            return Objects.hash(degree, bigNumerator, bigDenominator);
+        }
+        return Objects.hash(degree, numerator, denominator);
+    }
+
+    // Sets the coefficient to numerator / denominator in simplest form
+    // MODIFIES: this
+    // REQUIRES: denominator != 0
+    // EFFECTS: Sets the coefficient
+    private void setCoefficient(long numerator, long denominator) {
+        if (numerator == Long.MIN_VALUE || denominator == Long.MIN_VALUE) {
+            // can't be negated in a long
+            setCoefficient(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+            return;
+        }
+
+        this.numerator = numerator;
+        this.denominator = denominator;
+        this.bigNumerator = null;
+        this.bigDenominator = null;
+        simplify();
+    }
+
+    // Sets the coefficient to numerator / denominator in simplest form, demoting it to longs if it fits
+    // MODIFIES: this
+    // REQUIRES: denominator != 0
+    // EFFECTS: Sets the coefficient
+    private void setCoefficient(BigInteger numerator, BigInteger denominator) {
+        if (fitsInLong(numerator) && fitsInLong(denominator)) {
+            setCoefficient(numerator.longValue(), denominator.longValue());
+            return;
+        }
+
+        this.bigNumerator = numerator;
+        this.bigDenominator = denominator;
+        simplify();
+        if (fitsInLong(bigNumerator) && fitsInLong(bigDenominator)) {
+            setCoefficient(bigNumerator.longValue(), bigDenominator.longValue());
+        }
+    }
+
+    // EFFECTS: Returns whether the value fits in a long that can also be negated
+    private static boolean fitsInLong(BigInteger value) {
+        return value.bitLength() < Long.SIZE && value.longValue() != Long.MIN_VALUE;
+    }
+
     // Simplifies the coefficient such that the denominator is positive
-    // and that the numerator and denominator are relatively prime
+    // and that the numerator and denominator are relatively prime (zero is always 0/1)
     // MODIFIES: this
     // EFFECTS: Simplifies the coefficient
     protected void simplify() {
+        if (bigNumerator != null) {
+            BigInteger gcd = bigNumerator.gcd(bigDenominator);
+            gcd = bigDenominator.signum() < 0 ? gcd.negate() : gcd;
+            bigNumerator = bigNumerator.divide(gcd);
+            bigDenominator = bigDenominator.divide(gcd);
+            return;
+        }
+
         // normalize so that denominator is positive
         if (this.denominator < 0) {
             this.denominator *= -1;
             this.numerator *= -1;
         }
 
-        int gcd = NMathUtil.getGCD(Math.abs(numerator), denominator);
-        if (gcd > 1) {
-            this.numerator /= gcd;
-            this.denominator /= gcd;
+        if (numerator == 0) {
+            this.denominator = 1;
+            return;
         }
+        long gcd = NMathUtil.getGCD(Math.abs(numerator), denominator);
+        this.numerator /= gcd;
+        this.denominator /= gcd;
     }
 }
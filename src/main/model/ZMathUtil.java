@@ -0,0 +1,462 @@
+package model;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * The math utility class for polynomials over the integers Z[x]
+ * Polynomials are stored as coefficient arrays indexed by degree (i.e. [c, b, a] is ax^2 + bx + c),
+ * with the highest degree coefficient being non-zero (the zero polynomial is the empty array)
+ */
+public final class ZMathUtil {
+
+    // Returns the integer coefficient array of the normalized terms
+    // REQUIRES: normalized terms (denominators are all 1)
+    // EFFECTS: Returns the coefficients indexed by degree
+    public static BigInteger[] fromTerms(List<Term> normalizedTerms) {
+        if (normalizedTerms.isEmpty()) {
+            return new BigInteger[0];
+        }
+
+        int degree = normalizedTerms.get(normalizedTerms.size() - 1).getDegree();
+        BigInteger[] coefficients = new BigInteger[degree + 1];
+        Arrays.fill(coefficients, BigInteger.ZERO);
+        for (Term term : normalizedTerms) {
+            coefficients[term.getDegree()] = term.getBigNumerator();
+        }
+
+        return coefficients;
+    }
+
+    // Returns the integer coefficient array of the terms multiplied by the scale
+    // REQUIRES: every denominator divides the scale (i.e. the scale is a multiple of getDenominatorLcm(terms))
+    // EFFECTS: Returns the scaled coefficients indexed by degree
+    public static BigInteger[] fromTerms(List<Term> terms, BigInteger scale) {
+        if (terms.isEmpty()) {
+            return new BigInteger[0];
+        }
+
+        BigInteger[] coefficients = new BigInteger[terms.get(terms.size() - 1).getDegree() + 1];
+        Arrays.fill(coefficients, BigInteger.ZERO);
+        for (Term term : terms) {
+            BigInteger multiple = scale.divide(term.getBigDenominator());
+            coefficients[term.getDegree()] = term.getBigNumerator().multiply(multiple);
+        }
+
+        return coefficients;
+    }
+
+    // Returns the lowest common multiple of the terms' denominators
+    // EFFECTS: Returns the lcm
+    public static BigInteger getDenominatorLcm(List<Term> terms) {
+        BigInteger lcm = BigInteger.ONE;
+        for (Term term : terms) {
+            BigInteger denominator = term.getBigDenominator();
+            lcm = lcm.multiply(denominator).divide(lcm.gcd(denominator));
+        }
+        return lcm;
+    }
+
+    // Returns the terms of p / divisor in ascending order of degree, with each coefficient in lowest terms
+    // REQUIRES: divisor != 0
+    // EFFECTS: Returns the terms
+    public static List<Term> toTerms(BigInteger[] p, BigInteger divisor) {
+        List<Term> terms = new ArrayList<>();
+        for (int i = 0; i < p.length; i++) {
+            if (p[i].signum() != 0) {
+                terms.add(new Term(p[i], divisor, i));
+            }
+        }
+        return terms;
+    }
+
+    // Returns the degree of the polynomial (-1 for the zero polynomial)
+    // EFFECTS: Returns the degree
+    public static int getDegree(BigInteger[] p) {
+        return p.length - 1;
+    }
+
+    // Returns the derivative of the polynomial
+    // EFFECTS: Returns the derivative
+    public static BigInteger[] getDerivative(BigInteger[] p) {
+        if (p.length <= 1) {
+            return new BigInteger[0];
+        }
+
+        BigInteger[] derivative = new BigInteger[p.length - 1];
+        for (int i = 1; i < p.length; i++) {
+            derivative[i - 1] = p[i].multiply(BigInteger.valueOf(i));
+        }
+        return derivative;
+    }
+
+    // Returns the pseudo-quotient and pseudo-remainder of a divided by b, i.e. the quotient and remainder of
+    // lc(b)^k * a / b with k = max(deg(a) - deg(b) + 1, 0).
+    // Unlike the true remainder, the pseudo-remainder stays in Z[x] (https://en.wikipedia.org/wiki/Polynomial_long_division)
+    // REQUIRES: b is not the zero polynomial
+    // EFFECTS: Returns {pseudo-quotient, pseudo-remainder}
+    public static BigInteger[][] getPseudoDivision(BigInteger[] a, BigInteger[] b) {
+        BigInteger[] remainder = Arrays.copyOf(a, a.length);
+        int divisorDegree = getDegree(b);
+        BigInteger leadingCoefficient = b[divisorDegree];
+        BigInteger[] quotient = new BigInteger[Math.max(getDegree(a) - divisorDegree + 1, 0)];
+        Arrays.fill(quotient, BigInteger.ZERO);
+
+        for (int step = quotient.length - 1; step >= 0; step--) {
+            BigInteger factor = remainder[divisorDegree + step];
+            for (int i = 0; i < remainder.length; i++) {
+                remainder[i] = remainder[i].multiply(leadingCoefficient);
+            }
+            for (int i = step + 1; i < quotient.length; i++) {
+                quotient[i] = quotient[i].multiply(leadingCoefficient);
+            }
+            quotient[step] = factor;
+            for (int i = 0; i <= divisorDegree; i++) {
+                remainder[i + step] = remainder[i + step].subtract(factor.multiply(b[i]));
+            }
+        }
+
+        return new BigInteger[][] {trim(quotient), trim(remainder)};
+    }
+
+    // Returns the pseudo-remainder of a divided by b, i.e. the remainder of lc(b)^(deg(a) - deg(b) + 1) * a / b
+    // REQUIRES: b is not the zero polynomial
+    // EFFECTS: Returns the pseudo-remainder
+    public static BigInteger[] getPseudoRemainder(BigInteger[] a, BigInteger[] b) {
+        return getPseudoDivision(a, b)[1];
+    }
+
+    // Returns the quotient of a divided by b
+    // REQUIRES: b is not the zero polynomial, b is primitive, and b divides a exactly
+    // EFFECTS: Returns the quotient
+    public static BigInteger[] getExactQuotient(BigInteger[] a, BigInteger[] b) {
+        int divisorDegree = getDegree(b);
+        if (getDegree(a) < divisorDegree) {
+            return new BigInteger[0];
+        }
+
+        BigInteger[] remainder = Arrays.copyOf(a, a.length);
+        BigInteger[] quotient = new BigInteger[getDegree(a) - divisorDegree + 1];
+        for (int step = quotient.length - 1; step >= 0; step--) {
+            // by Gauss's lemma, the quotient of a primitive divisor has integer coefficients
+            quotient[step] = remainder[divisorDegree + step].divide(b[divisorDegree]);
+            for (int i = 0; i <= divisorDegree; i++) {
+                remainder[i + step] = remainder[i + step].subtract(quotient[step].multiply(b[i]));
+            }
+        }
+
+        return trim(quotient);
+    }
+
+    // Returns the quotient of p divided by (dx - n) with synthetic division in longs, which stops as soon as
+    // a division isn't exact. Since p = (dx - n)q means a_i = dq_(i-1) - nq_i, each quotient coefficient
+    // q_(i-1) = (a_i + nq_i) / d comes from the one above it, and the remainder is a_0 + nq_0
+    // REQUIRES: degree of p >= 1, d > 0; every step fits in a long (throws ArithmeticException otherwise)
+    // EFFECTS: Returns the quotient, or an empty array if (dx - n) doesn't divide p
+    public static long[] getSyntheticQuotient(long[] p, long n, long d) {
+        long[] quotient = new long[p.length - 1];
+        long carry = 0;
+        for (int i = p.length - 1; i >= 1; i--) {
+            long sum = Math.addExact(p[i], carry);
+            if (sum % d != 0) {
+                return new long[0];
+            }
+            quotient[i - 1] = sum / d;
+            carry = Math.multiplyExact(n, quotient[i - 1]);
+        }
+        return Math.addExact(p[0], carry) == 0 ? quotient : new long[0];
+    }
+
+    // Returns the quotient of p divided by (dx - n) with synthetic division (see the long version)
+    // REQUIRES: degree of p >= 1, d > 0
+    // EFFECTS: Returns the quotient, or an empty array if (dx - n) doesn't divide p
+    public static BigInteger[] getSyntheticQuotient(BigInteger[] p, BigInteger n, BigInteger d) {
+        BigInteger[] quotient = new BigInteger[p.length - 1];
+        BigInteger carry = BigInteger.ZERO;
+        for (int i = p.length - 1; i >= 1; i--) {
+            BigInteger[] division = p[i].add(carry).divideAndRemainder(d);
+            if (division[1].signum() != 0) {
+                return new BigInteger[0];
+            }
+            quotient[i - 1] = division[0];
+            carry = n.multiply(quotient[i - 1]);
+        }
+        return p[0].add(carry).signum() == 0 ? quotient : new BigInteger[0];
+    }
+
+    // Returns the polynomial with each coefficient as a long
+    // REQUIRES: every coefficient fits in a long (throws ArithmeticException otherwise)
+    // EFFECTS: Returns the coefficients as longs
+    public static long[] toLongs(BigInteger[] p) {
+        long[] longs = new long[p.length];
+        for (int i = 0; i < p.length; i++) {
+            longs[i] = p[i].longValueExact();
+        }
+        return longs;
+    }
+
+    // Returns the polynomial with each coefficient as a BigInteger
+    // EFFECTS: Returns the coefficients as BigIntegers
+    public static BigInteger[] fromLongs(long[] p) {
+        BigInteger[] bigIntegers = new BigInteger[p.length];
+        for (int i = 0; i < p.length; i++) {
+            bigIntegers[i] = BigInteger.valueOf(p[i]);
+        }
+        return bigIntegers;
+    }
+
+    // Returns the greatest common divisor of two polynomials as a primitive polynomial with a positive
+    // leading coefficient, using the subresultant polynomial remainder sequence
+    // (https://en.wikipedia.org/wiki/Polynomial_greatest_common_divisor#Subresultant_pseudo-remainder_sequence),
+    // which keeps the coefficients small by dividing out a known factor instead of computing contents
+    // EFFECTS: Returns the greatest common divisor
+    public static BigInteger[] getGCD(BigInteger[] a, BigInteger[] b) {
+        if (getDegree(a) < getDegree(b)) {
+            return getGCD(b, a);
+        }
+        a = getPrimitivePart(a);
+        b = getPrimitivePart(b);
+
+        BigInteger g = BigInteger.ONE;
+        BigInteger h = BigInteger.ONE;
+        while (b.length > 1) {
+            int delta = getDegree(a) - getDegree(b);
+            BigInteger[] remainder = getPseudoRemainder(a, b);
+            a = b;
+            b = divideCoefficients(remainder, g.multiply(h.pow(delta)));
+
+            // h_(i+1) = g^delta / h_i^(delta - 1), which is exact
+            g = a[a.length - 1];
+            h = delta == 0 ? h : g.pow(delta).divide(h.pow(delta - 1));
+        }
+
+        // a non-zero constant remainder means the polynomials are coprime
+        a = b.length == 1 ? b : getPrimitivePart(a);
+        a = a.length == 1 ? new BigInteger[] {BigInteger.ONE} : a;
+        return a.length > 0 && a[a.length - 1].signum() < 0 ? negate(a) : a;
+    }
+
+    // Returns the polynomial with each coefficient divided by the divisor
+    // REQUIRES: divisor != 0 and it divides every coefficient exactly
+    // EFFECTS: Returns p / divisor
+    private static BigInteger[] divideCoefficients(BigInteger[] p, BigInteger divisor) {
+        BigInteger[] quotient = new BigInteger[p.length];
+        for (int i = 0; i < p.length; i++) {
+            quotient[i] = p[i].divide(divisor);
+        }
+        return quotient;
+    }
+
+    // Returns the square-free part of the polynomial, p / gcd(p, p'), which has the same roots as p
+    // but with each root being a simple root
+    // REQUIRES: polynomial of degree >= 1
+    // EFFECTS: Returns the primitive square-free part
+    public static BigInteger[] getSquareFreePart(BigInteger[] p) {
+        BigInteger[] gcd = getGCD(p, getDerivative(p));
+        return getPrimitivePart(getExactQuotient(getPrimitivePart(p), gcd));
+    }
+
+    // Returns the square-free factorization p = c * a_1 * a_2^2 * a_3^3 * ... with Yun's algorithm
+    // (https://en.wikipedia.org/wiki/Square-free_polynomial#Yun's_algorithm), where each a_i is square-free,
+    // primitive, has a positive leading coefficient, and no two of them share a root
+    // REQUIRES: polynomial of degree >= 1
+    // EFFECTS: Returns the factors, where the factor at index i has multiplicity i + 1 (constant if none)
+    public static List<BigInteger[]> getSquareFreeFactorization(BigInteger[] p) {
+        List<BigInteger[]> factors = new ArrayList<>();
+        p = getPrimitivePart(p);
+
+        BigInteger[] derivative = getDerivative(p);
+        BigInteger[] gcd = getGCD(p, derivative);
+        BigInteger[] b = getExactQuotient(p, gcd);
+        BigInteger[] d = subtract(getExactQuotient(derivative, gcd), getDerivative(b));
+
+        while (getDegree(b) > 0) {
+            BigInteger[] factor = getGCD(b, d);
+            factors.add(factor);
+            b = getExactQuotient(b, factor);
+            d = subtract(getExactQuotient(d, factor), getDerivative(b));
+        }
+
+        return factors;
+    }
+
+    // Returns the product of two polynomials
+    // EFFECTS: Returns ab
+    public static BigInteger[] multiply(BigInteger[] a, BigInteger[] b) {
+        if (a.length == 0 || b.length == 0) {
+            return new BigInteger[0];
+        }
+
+        BigInteger[] product = new BigInteger[a.length + b.length - 1];
+        Arrays.fill(product, BigInteger.ZERO);
+        for (int i = 0; i < a.length; i++) {
+            for (int j = 0; j < b.length; j++) {
+                product[i + j] = product[i + j].add(a[i].multiply(b[j]));
+            }
+        }
+        return trim(product);
+    }
+
+    // Returns the difference of two polynomials, a - b
+    // EFFECTS: Returns a - b
+    public static BigInteger[] subtract(BigInteger[] a, BigInteger[] b) {
+        BigInteger[] difference = new BigInteger[Math.max(a.length, b.length)];
+        for (int i = 0; i < difference.length; i++) {
+            BigInteger left = i < a.length ? a[i] : BigInteger.ZERO;
+            BigInteger right = i < b.length ? b[i] : BigInteger.ZERO;
+            difference[i] = left.subtract(right);
+        }
+        return trim(difference);
+    }
+
+    // Returns the polynomial shifted by one, p(x + 1), using the O(n^2) additions-only Taylor shift
+    // EFFECTS: Returns p(x + 1)
+    public static BigInteger[] getTaylorShift(BigInteger[] p) {
+        BigInteger[] shifted = Arrays.copyOf(p, p.length);
+        int degree = getDegree(p);
+        for (int i = 0; i < degree; i++) {
+            for (int j = degree - 1; j >= i; j--) {
+                shifted[j] = shifted[j].add(shifted[j + 1]);
+            }
+        }
+        return shifted;
+    }
+
+    // Returns the reciprocal polynomial x^n p(1/x), i.e. the coefficients in reverse
+    // EFFECTS: Returns the reciprocal polynomial
+    public static BigInteger[] getReciprocal(BigInteger[] p) {
+        BigInteger[] reciprocal = new BigInteger[p.length];
+        for (int i = 0; i < p.length; i++) {
+            reciprocal[i] = p[p.length - 1 - i];
+        }
+        return trim(reciprocal);
+    }
+
+    // Returns the polynomial with its roots scaled by 2^exponent, i.e. 2^(n * exponent) p(x / 2^exponent) for
+    // positive exponents and p(x * 2^(-exponent)) for negative ones, keeping the coefficients as integers
+    // EFFECTS: Returns the polynomial with scaled roots
+    public static BigInteger[] getRootsScaled(BigInteger[] p, int exponent) {
+        int degree = getDegree(p);
+        BigInteger[] scaled = new BigInteger[p.length];
+        for (int i = 0; i <= degree; i++) {
+            scaled[i] = exponent >= 0 ? p[i].shiftLeft(exponent * (degree - i)) : p[i].shiftLeft(-exponent * i);
+        }
+        return scaled;
+    }
+
+    // Returns the polynomial with its roots negated, p(-x)
+    // EFFECTS: Returns p(-x)
+    public static BigInteger[] getRootsNegated(BigInteger[] p) {
+        BigInteger[] negated = new BigInteger[p.length];
+        for (int i = 0; i < p.length; i++) {
+            negated[i] = i % 2 == 0 ? p[i] : p[i].negate();
+        }
+        return negated;
+    }
+
+    // Returns the number of sign variations in the coefficients (zeroes are skipped).
+    // By Descartes' rule of signs, this bounds the number of positive roots and has the same parity.
+    // EFFECTS: Returns the number of sign variations
+    public static int countSignVariations(BigInteger[] p) {
+        int variations = 0;
+        int lastSign = 0;
+        for (BigInteger coefficient : p) {
+            int sign = coefficient.signum();
+            if (sign != 0) {
+                variations += lastSign * sign < 0 ? 1 : 0;
+                lastSign = sign;
+            }
+        }
+        return variations;
+    }
+
+    // Returns the content of the polynomial (the gcd of its coefficients); always non-negative
+    // EFFECTS: Returns the content
+    public static BigInteger getContent(BigInteger[] p) {
+        BigInteger content = BigInteger.ZERO;
+        for (BigInteger coefficient : p) {
+            content = content.gcd(coefficient);
+            if (content.equals(BigInteger.ONE)) {
+                break;
+            }
+        }
+        return content;
+    }
+
+    // Returns the primitive part of the polynomial (the polynomial divided by its content).
+    // The sign of the polynomial is kept as-is.
+    // EFFECTS: Returns the primitive part
+    public static BigInteger[] getPrimitivePart(BigInteger[] p) {
+        BigInteger content = getContent(p);
+        if (content.signum() == 0 || content.equals(BigInteger.ONE)) {
+            return p;
+        }
+
+        BigInteger[] primitivePart = new BigInteger[p.length];
+        for (int i = 0; i < p.length; i++) {
+            primitivePart[i] = p[i].divide(content);
+        }
+        return primitivePart;
+    }
+
+    // Returns the negation of the polynomial
+    // EFFECTS: Returns the negation
+    public static BigInteger[] negate(BigInteger[] p) {
+        BigInteger[] negation = new BigInteger[p.length];
+        for (int i = 0; i < p.length; i++) {
+            negation[i] = p[i].negate();
+        }
+        return negation;
+    }
+
+    // Returns the polynomial as doubles, scaled by a power of two so that the coefficients don't overflow.
+    // The scaling is positive so the sign of the polynomial at any point is kept.
+    // EFFECTS: Returns the scaled double coefficients
+    public static double[] toScaledDoubles(BigInteger[] p) {
+        int maxBitLength = 0;
+        for (BigInteger coefficient : p) {
+            maxBitLength = Math.max(maxBitLength, coefficient.bitLength());
+        }
+        int shift = Math.max(0, maxBitLength - 900);
+
+        double[] doubles = new double[p.length];
+        for (int i = 0; i < p.length; i++) {
+            doubles[i] = p[i].shiftRight(shift).doubleValue();
+        }
+        return doubles;
+    }
+
+    // Returns an upper bound on the magnitude of the roots of the polynomial, i.e. all roots satisfy |x| < bound.
+    // Uses the smaller of the Cauchy and Fujiwara bounds (https://en.wikipedia.org/wiki/Geometrical_properties_of_polynomial_roots)
+    // REQUIRES: polynomial of degree >= 1
+    // EFFECTS: Returns the root bound
+    public static double getRootBound(BigInteger[] p) {
+        double[] coefficients = toScaledDoubles(p);
+        int degree = getDegree(p);
+        double leadingCoefficient = Math.abs(coefficients[degree]);
+
+        double cauchyMax = 0;
+        double fujiwaraMax = Math.pow(Math.abs(coefficients[0]) / (2 * leadingCoefficient), 1.0 / degree);
+        for (int i = 1; i < degree; i++) {
+            double ratio = Math.abs(coefficients[i]) / leadingCoefficient;
+            cauchyMax = Math.max(cauchyMax, ratio);
+            fujiwaraMax = Math.max(fujiwaraMax, Math.pow(ratio, 1.0 / (degree - i)));
+        }
+        cauchyMax = Math.max(cauchyMax, Math.abs(coefficients[0]) / leadingCoefficient);
+
+        // pad slightly so that floating point rounding can't put a root on the bound
+        return Math.min(1 + cauchyMax, 2 * fujiwaraMax) * (1 + 1e-9) + Double.MIN_NORMAL;
+    }
+
+    // Returns the polynomial without leading zero coefficients
+    // EFFECTS: Returns the trimmed polynomial
+    public static BigInteger[] trim(BigInteger[] p) {
+        int length = p.length;
+        while (length > 0 && p[length - 1].signum() == 0) {
+            length--;
+        }
+        return length == p.length ? p : Arrays.copyOf(p, length);
+    }
+}
@@ -0,0 +1,226 @@
+package model;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/*
+ * The math utility class for polynomials over the integers mod a prime Z/pZ.
+ * Polynomials are arrays of coefficients in [0, p) indexed by degree, without leading zeros (so the zero polynomial
+ * is empty). The prime is below 2^31, so that the product of two coefficients always fits in a long.
+ */
+public final class ZpMathUtil {
+    private static final long[] X = {0, 1};
+
+    // Returns the polynomial with each coefficient reduced mod p
+    // REQUIRES: p is prime and p < 2^31
+    // EFFECTS: Returns p(x) mod p
+    public static long[] reduce(BigInteger[] a, long p) {
+        BigInteger modulus = BigInteger.valueOf(p);
+        long[] reduction = new long[a.length];
+        for (int i = 0; i < a.length; i++) {
+            reduction[i] = a[i].mod(modulus).longValue();
+        }
+        return trim(reduction);
+    }
+
+    // Returns the degree of the polynomial (-1 for the zero polynomial)
+    // EFFECTS: Returns the degree
+    public static int getDegree(long[] a) {
+        return a.length - 1;
+    }
+
+    // Returns the polynomial without leading zero coefficients
+    // EFFECTS: Returns the trimmed polynomial
+    public static long[] trim(long[] a) {
+        int length = a.length;
+        while (length > 0 && a[length - 1] == 0) {
+            length--;
+        }
+        return length == a.length ? a : Arrays.copyOf(a, length);
+    }
+
+    // EFFECTS: Returns a - b (mod p)
+    public static long[] subtract(long[] a, long[] b, long p) {
+        long[] difference = Arrays.copyOf(a, Math.max(a.length, b.length));
+        for (int i = 0; i < b.length; i++) {
+            difference[i] = Math.floorMod(difference[i] - b[i], p);
+        }
+        return trim(difference);
+    }
+
+    // EFFECTS: Returns ab (mod p)
+    public static long[] multiply(long[] a, long[] b, long p) {
+        if (a.length == 0 || b.length == 0) {
+            return new long[0];
+        }
+
+        long[] product = new long[a.length + b.length - 1];
+        for (int i = 0; i < a.length; i++) {
+            for (int j = 0; j < b.length; j++) {
+                product[i + j] = (product[i + j] + a[i] * b[j]) % p;
+            }
+        }
+        return trim(product);
+    }
+
+    // Returns the quotient and remainder of a divided by b
+    // REQUIRES: b is not the zero polynomial
+    // EFFECTS: Returns {quotient, remainder}
+    public static long[][] getDivision(long[] a, long[] b, long p) {
+        long[] remainder = a.clone();
+        int divisorDegree = getDegree(b);
+        long inverse = getInverse(b[divisorDegree], p);
+        long[] quotient = new long[Math.max(getDegree(a) - divisorDegree + 1, 0)];
+
+        for (int step = quotient.length - 1; step >= 0; step--) {
+            long factor = remainder[divisorDegree + step] * inverse % p;
+            quotient[step] = factor;
+            for (int i = 0; i <= divisorDegree; i++) {
+                remainder[i + step] = Math.floorMod(remainder[i + step] - factor * b[i], p);
+            }
+        }
+        return new long[][] {trim(quotient), trim(remainder)};
+    }
+
+    // REQUIRES: b is not the zero polynomial
+    // EFFECTS: Returns the remainder of a divided by b
+    public static long[] getRemainder(long[] a, long[] b, long p) {
+        return getDivision(a, b, p)[1];
+    }
+
+    // Returns the polynomial divided by its leading coefficient
+    // EFFECTS: Returns the monic polynomial (or the zero polynomial)
+    public static long[] getMonic(long[] a, long p) {
+        if (a.length == 0) {
+            return a;
+        }
+
+        long inverse = getInverse(a[a.length - 1], p);
+        long[] monic = new long[a.length];
+        for (int i = 0; i < a.length; i++) {
+            monic[i] = a[i] * inverse % p;
+        }
+        return monic;
+    }
+
+    // Returns the derivative of the polynomial
+    // EFFECTS: Returns the derivative (mod p)
+    public static long[] getDerivative(long[] a, long p) {
+        long[] derivative = new long[Math.max(a.length - 1, 0)];
+        for (int i = 1; i < a.length; i++) {
+            derivative[i - 1] = a[i] * (i % p) % p;
+        }
+        return trim(derivative);
+    }
+
+    // Returns the greatest common divisor of two polynomials with the Euclidean algorithm
+    // EFFECTS: Returns the monic greatest common divisor (zero if both are zero)
+    public static long[] getGCD(long[] a, long[] b, long p) {
+        while (b.length > 0) {
+            long[] remainder = getRemainder(a, b, p);
+            a = b;
+            b = remainder;
+        }
+        return getMonic(a, p);
+    }
+
+    // Returns the greatest common divisor g of two polynomials along with s and t such that sa + tb = g,
+    // with the extended Euclidean algorithm
+    // REQUIRES: a or b is not the zero polynomial
+    // EFFECTS: Returns {g, s, t}, where g is monic
+    public static long[][] getExtendedGCD(long[] a, long[] b, long p) {
+        long[] s = {1};
+        long[] t = {};
+        long[] nextS = {};
+        long[] nextT = {1};
+        while (b.length > 0) {
+            long[][] division = getDivision(a, b, p);
+            long[] temp = subtract(s, multiply(division[0], nextS, p), p);
+            s = nextS;
+            nextS = temp;
+            temp = subtract(t, multiply(division[0], nextT, p), p);
+            t = nextT;
+            nextT = temp;
+            a = b;
+            b = division[1];
+        }
+
+        long[] inverse = {getInverse(a[a.length - 1], p)};
+        return new long[][] {getMonic(a, p), multiply(s, inverse, p), multiply(t, inverse, p)};
+    }
+
+    // Returns base^exponent mod the modulus by squaring
+    // REQUIRES: modulus has degree >= 1
+    // EFFECTS: Returns base^exponent (mod modulus, p)
+    public static long[] getPowerModulo(long[] base, BigInteger exponent, long[] modulus, long p) {
+        long[] result = {1};
+        base = getRemainder(base, modulus, p);
+        for (int bit = exponent.bitLength() - 1; bit >= 0; bit--) {
+            result = getRemainder(multiply(result, result, p), modulus, p);
+            if (exponent.testBit(bit)) {
+                result = getRemainder(multiply(result, base, p), modulus, p);
+            }
+        }
+        return result;
+    }
+
+    // Returns the inverse of a mod p, by Fermat's little theorem a^(p - 2) a = 1 (mod p)
+    // REQUIRES: a is not a multiple of p
+    // EFFECTS: Returns the inverse
+    public static long getInverse(long a, long p) {
+        return BigInteger.valueOf(a).modPow(BigInteger.valueOf(p - 2), BigInteger.valueOf(p)).longValue();
+    }
+
+    // Factors a square-free polynomial into monic irreducible polynomials with the Cantor-Zassenhaus algorithm
+    // (https://en.wikipedia.org/wiki/Factorization_of_polynomials_over_finite_fields): the distinct-degree
+    // factorization splits it into products of irreducibles of the same degree d, since x^(p^d) - x is the product
+    // of every monic irreducible whose degree divides d, and then each product is split at random
+    // REQUIRES: f is monic, square-free, and of degree >= 1; p is an odd prime
+    // EFFECTS: Returns the irreducible factors
+    public static List<long[]> getIrreducibleFactors(long[] f, long p, Random random) {
+        List<long[]> factors = new ArrayList<>();
+        long[] power = X;
+        for (int degree = 1; 2 * degree <= getDegree(f); degree++) {
+            power = getPowerModulo(power, BigInteger.valueOf(p), f, p); // x^(p^degree) mod f
+            long[] product = getGCD(f, subtract(power, X, p), p);
+            if (getDegree(product) > 0) {
+                splitEqualDegree(factors, product, degree, p, random);
+                f = getDivision(f, product, p)[0];
+                power = getRemainder(power, f, p);
+            }
+        }
+
+        if (getDegree(f) > 0) {
+            factors.add(f); // irreducible, since any factor would have half its degree at most
+        }
+        return factors;
+    }
+
+    // Splits a product of irreducibles of the same degree: for a random a, gcd(f, a^((p^d - 1) / 2) - 1) is the
+    // product of the irreducibles modulo which a is a square, which is a proper factor about half the time
+    // REQUIRES: f is monic, and a product of distinct irreducibles of the degree
+    // MODIFIES: factors
+    // EFFECTS: Adds the irreducible factors
+    private static void splitEqualDegree(List<long[]> factors, long[] f, int degree, long p, Random random) {
+        if (getDegree(f) == degree) {
+            factors.add(f);
+            return;
+        }
+
+        BigInteger exponent = BigInteger.valueOf(p).pow(degree).shiftRight(1);
+        long[] factor;
+        do {
+            long[] a = new long[getDegree(f)];
+            for (int i = 0; i < a.length; i++) {
+                a[i] = random.nextInt((int) p);
+            }
+            factor = getGCD(f, subtract(getPowerModulo(trim(a), exponent, f, p), new long[] {1}, p), p);
+        } while (getDegree(factor) <= 0 || getDegree(factor) >= getDegree(f));
+
+        splitEqualDegree(factors, factor, degree, p, random);
+        splitEqualDegree(factors, getDivision(f, factor, p)[0], degree, p, random);
+    }
+}
@@ -0,0 +1,167 @@
+package persistence;
+
+import model.Polynomial;
+import model.PolynomialAnalysis;
+import model.Root;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// Solves a library of polynomials headlessly: reads a JSON array of polynomial strings (like
+// data/sample-polynomials.json), analyzes each one on a pool of worker threads, and writes a JSON array of the
+// results in input order. Both arrays are streamed, and once the workers and their bounded queue are full, the
+// reader waits for the oldest polynomial to be written before reading the next one, so memory stays constant
+// however many polynomials there are.
+public class BatchSolver {
+    private final int threads;
+    private final int queueCapacity;
+
+    // EFFECTS: constructs a batch solver with a worker per core, and a queue of four polynomials per worker
+    public BatchSolver() {
+        this(Runtime.getRuntime().availableProcessors(), 4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    // REQUIRES: threads >= 1, queueCapacity >= 1
+    // EFFECTS: constructs a batch solver
+    public BatchSolver(int threads, int queueCapacity) {
+        this.threads = threads;
+        this.queueCapacity = queueCapacity;
+    }
+
+    // EFFECTS: solves the polynomials of the file given as the first argument into the file given as the second
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.out.println("Usage: BatchSolver <polynomials.json> <results.json>");
+            return;
+        }
+        new BatchSolver().solve(args[0], args[1]);
+    }
+
+    // EFFECTS: solves the polynomials in the source file, and writes the results to the destination file;
+    //          throws IOException if either file can't be read or written
+    public void solve(String source, String destination) throws IOException {
+        try (Reader reader = Files.newBufferedReader(Paths.get(source), StandardCharsets.UTF_8);
+             Writer writer = Files.newBufferedWriter(Paths.get(destination), StandardCharsets.UTF_8)) {
+            solve(reader, writer);
+        }
+    }
+
+    // REQUIRES: the reader holds a JSON array of polynomial strings (throws JSONException otherwise)
+    // EFFECTS: solves the polynomials from the reader, and writes the results to the writer in input order;
+    //          throws IOException if it can't write, or if it's interrupted
+    public void solve(Reader reader, Writer writer) throws IOException {
+        ExecutorService executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), BatchSolver::putWhenRoomInQueue);
+        Deque<Future<JSONObject>> pending = new ArrayDeque<>(); // running or queued, in input order
+        JSONTokener tokener = new JSONTokener(reader);
+        try {
+            readArrayStart(tokener);
+            writer.write("[");
+            int written = 0;
+            for (String entry = nextEntry(tokener); entry != null; entry = nextEntry(tokener)) {
+                if (pending.size() == threads + queueCapacity) { // the results waiting to be written are bounded too
+                    writeResult(writer, pending.removeFirst(), written++);
+                }
+                String polynomialStr = entry;
+                pending.addLast(executor.submit(() -> analyze(polynomialStr)));
+            }
+            while (!pending.isEmpty()) {
+                writeResult(writer, pending.removeFirst(), written++);
+            }
+            writer.write(written > 0 ? "\n]\n" : "]\n");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Reads the '[' that starts the JSON array
+    // EFFECTS: Reads the '['; throws JSONException if the array doesn't start there
+    private static void readArrayStart(JSONTokener tokener) {
+        if (tokener.nextClean() != '[') {
+            throw tokener.syntaxError("A JSON array text must start with '['");
+        }
+    }
+
+    // Blocks until the queue has room for the task, since a finished task's worker may not have taken the next
+    // one from the queue yet
+    // EFFECTS: adds the task to the queue; throws RejectedExecutionException if interrupted while waiting
+    private static void putWhenRoomInQueue(Runnable task, ThreadPoolExecutor executor) {
+        try {
+            executor.getQueue().put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for the queue", e);
+        }
+    }
+
+    // Reads the next entry of the array, after the opening bracket or the previous entry
+    // EFFECTS: Returns the next polynomial string, or null at the end of the array
+    private static String nextEntry(JSONTokener tokener) {
+        char next = tokener.nextClean();
+        if (next == ']') {
+            return null;
+        } else if (next != ',') {
+            tokener.back(); // the first entry
+        }
+        return tokener.nextValue().toString();
+    }
+
+    // Waits for the result, and writes it as the next entry of the array
+    // EFFECTS: writes the result; throws IOException if it can't write, or if it's interrupted
+    private static void writeResult(Writer writer, Future<JSONObject> result, int index) throws IOException {
+        try {
+            writer.write(index > 0 ? ",\n    " : "\n    ");
+            result.get().write(writer);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while solving polynomials");
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to solve polynomial", e.getCause());
+        }
+    }
+
+    // Analyzes the polynomial like the summary panel does; a polynomial that can't be parsed or solved gets an
+    // error instead, so that it doesn't stop the rest of the batch
+    // EFFECTS: Returns the results for the polynomial
+    private static JSONObject analyze(String polynomialStr) {
+        JSONObject result = new JSONObject();
+        result.put("polynomial", polynomialStr);
+        try {
+            // analyzed directly, since a batch rarely repeats a polynomial and would only churn the cache
+            PolynomialAnalysis analysis = new PolynomialAnalysis(Polynomial.parse(polynomialStr));
+            result.put("xIntercepts", toJson(analysis.getXIntercepts()));
+            result.put("criticalPoints", toJson(analysis.getCriticalPoints()));
+            result.put("inflectionPoints", toJson(analysis.getInflectionPoints()));
+        } catch (RuntimeException e) {
+            result.put("error", e.toString());
+        }
+        return result;
+    }
+
+    // EFFECTS: Returns the display texts of the roots as a JSON array
+    private static JSONArray toJson(List<Root> roots) {
+        JSONArray array = new JSONArray();
+        for (Root root : roots) {
+            array.put(root.getDisplayText());
+        }
+        return array;
+    }
+}
@@ -90,26 +90,28 @@ public class GraphicsPanel extends JPanel {
     protected void drawGraph(Graphics g, double unitPixelSize) {
         Graphics2D g2 = (Graphics2D)g;
 
+        // evaluate every pixel column at once; point 0 is the y intercept, and the negative side follows the positive
+        double[] points = new double[2 * MIDPOINT - 1];
+        for (int i = 1; i < MIDPOINT; i++) {
+            points[i] = (double)(i) / unitPixelSize;
+            points[i + MIDPOINT - 1] = -points[i];
+        }
+        double[] pointEvals = new double[points.length];
+        polynomial.evaluateAtPoints(points, pointEvals);
+
         // position positive and negative sides at y intercept
         Path2D positivePath = new Path2D.Double();
         Path2D negativePath = new Path2D.Double();
-        double pointEval = polynomial.evaluateAtPoint(0);
-        positivePath.moveTo(MIDPOINT, toChartCoordinatesY(pointEval, unitPixelSize));
-        negativePath.moveTo(MIDPOINT, toChartCoordinatesY(pointEval, unitPixelSize));
+        positivePath.moveTo(MIDPOINT, toChartCoordinatesY(pointEvals[0], unitPixelSize));
+        negativePath.moveTo(MIDPOINT, toChartCoordinatesY(pointEvals[0], unitPixelSize));
 
         // draw a lotta lines
         for (int i = 1; i < MIDPOINT; i++) {
-            // for positive side
-            double point = (double)(i) / unitPixelSize;
-            pointEval = polynomial.evaluateAtPoint(point);
-            positivePath.lineTo(toChartCoordinatesX(point, unitPixelSize),
-                    toChartCoordinatesY(pointEval, unitPixelSize));
-
-            // for negative side
-            point *= -1;
-            pointEval = polynomial.evaluateAtPoint(point);
-            negativePath.lineTo(toChartCoordinatesX(point, unitPixelSize),
-                    toChartCoordinatesY(pointEval, unitPixelSize));
+            int j = i + MIDPOINT - 1;
+            positivePath.lineTo(toChartCoordinatesX(points[i], unitPixelSize),
+                    toChartCoordinatesY(pointEvals[i], unitPixelSize));
+            negativePath.lineTo(toChartCoordinatesX(points[j], unitPixelSize),
+                    toChartCoordinatesY(pointEvals[j], unitPixelSize));
         }
 
         // draw positive and negative sides
@@ -29,6 +29,7 @@ public class SummaryPanel extends JPanel {
     // EFFECTS: generates the polynomial summary
     private String getSummary(Polynomial polynomial) {
         String summary = "\nSummary for " + polynomial + ": " + "\n";
+        summary += " - factored form: " + polynomial.toFactoredString() + "\n";
         summary += " - x-intercepts: " + polynomial.getXIntercepts() + "\n";
         summary += " - y-intercept: " + polynomial.getYIntercept() + "\n";
         summary += " - critical points: " + polynomial.getCriticalPoints() + "\n";
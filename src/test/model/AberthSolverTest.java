@@ -0,0 +1,72 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AberthSolverTest {
+    @Test
+    public void testSolveRealRoots() {
+        // (x - 1)(x - 2)(x - 3)
+        List<ComplexRoot> roots = new AberthSolver().solve(new double[] {-6, 11, -6, 1});
+        assertEquals("[1.000000, 2.000000, 3.000000]", roots.toString());
+    }
+
+    @Test
+    public void testSolveComplexRoots() {
+        // (x^2 + 1)(x - 2)
+        List<ComplexRoot> roots = new AberthSolver().solve(new double[] {-2, 1, -2, 1});
+        assertEquals("[0.000000-1.000000i, 0.000000+1.000000i, 2.000000]", roots.toString());
+    }
+
+    @Test
+    public void testSolveRepeatedRoots() {
+        // (x - 1)^2 (x + 1)
+        List<ComplexRoot> roots = new AberthSolver().solve(new double[] {1, -1, -1, 1});
+        assertEquals("[-1.000000, 1.000000, 1.000000]", roots.toString());
+    }
+
+    @Test
+    public void testSolveHighDegree() {
+        // x^100 - 1 has the 100th roots of unity as roots
+        double[] coefficients = new double[101];
+        coefficients[0] = -1;
+        coefficients[100] = 1;
+
+        List<ComplexRoot> roots = new AberthSolver().solve(coefficients);
+        assertEquals(100, roots.size());
+        for (ComplexRoot root : roots) {
+            assertEquals(1, root.getModulus(), 1e-9);
+        }
+        assertEquals("-1.000000", roots.get(0).toString());
+        assertEquals("1.000000", roots.get(99).toString());
+    }
+
+    @Test
+    public void testSolveRandomHighDegree() {
+        // z^n overflows far outside the unit circle, which used to turn approximations into NaN
+        Random random = new Random(0);
+        for (int trial = 0; trial < 5; trial++) {
+            double[] coefficients = new double[401 + random.nextInt(101)];
+            for (int i = 0; i < coefficients.length; i++) {
+                coefficients[i] = random.nextInt(2001) - 1000;
+            }
+            coefficients[coefficients.length - 1] = 1000;
+
+            List<ComplexRoot> roots = new AberthSolver().solve(coefficients);
+            assertEquals(coefficients.length - 1, roots.size());
+            for (ComplexRoot root : roots) {
+                assertTrue(Double.isFinite(root.getReal()) && Double.isFinite(root.getImaginary()));
+            }
+        }
+    }
+
+    @Test
+    public void testSolveRootsOutOfRange() {
+        // 1e-300x^2 + 1e300x + 1, one of whose roots is about -1e600
+        assertThrows(ArithmeticException.class, () -> new AberthSolver().solve(new double[] {1, 1e300, 1e-300}));
+    }
+}
@@ -0,0 +1,96 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static model.TestPolynomials.toPolynomial;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveEvaluatorTest {
+    // (x - 1)^7, which plain Horner's method can't tell the sign of anywhere near 1
+    private static final BigInteger[] CLUSTERED = toPolynomial(-1, 7, -21, 35, -35, 21, -7, 1);
+
+    @Test
+    public void testEvaluateAtPoint() {
+        // x^2 - 2
+        AdaptiveEvaluator evaluator = new AdaptiveEvaluator(toPolynomial(-2, 0, 1));
+        assertEquals(0.25, evaluator.evaluateAtPoint(1.5));
+        assertEquals(-1, evaluator.evaluateAtPoint(1));
+        assertEquals(1, evaluator.getSign(2));
+        assertEquals(-1, evaluator.getSign(-1));
+    }
+
+    @Test
+    public void testSignNearClusteredRoots() {
+        AdaptiveEvaluator evaluator = new AdaptiveEvaluator(CLUSTERED);
+        for (int exponent = 3; exponent <= 50; exponent++) {
+            double offset = Math.scalb(1.0, -exponent);
+            assertEquals(1, evaluator.getSign(1 + offset));
+            assertEquals(-1, evaluator.getSign(1 - offset));
+        }
+        assertEquals(0, evaluator.evaluateAtPoint(1));
+        assertEquals(0, evaluator.getSign(1));
+    }
+
+    @Test
+    public void testHornerErrorBound() {
+        AdaptiveEvaluator evaluator = new AdaptiveEvaluator(CLUSTERED);
+        double[] evaluation = evaluator.evaluateWithHorner(1.001);
+        assertTrue(Math.abs(evaluation[0]) <= evaluation[1]);
+        evaluation = evaluator.evaluateWithHorner(3);
+        assertEquals(128, evaluation[0]);
+        assertTrue(evaluation[1] < 1e-10);
+    }
+
+    @Test
+    public void testCompensatedHorner() {
+        AdaptiveEvaluator evaluator = new AdaptiveEvaluator(CLUSTERED);
+        double point = 1.01;
+        double exact = Math.pow(point - 1, 7); // point - 1 is exact
+        double[] evaluation = evaluator.evaluateWithCompensatedHorner(point);
+        assertEquals(exact, evaluation[0], 1e-15 * exact);
+        assertTrue(Math.abs(evaluation[0]) > evaluation[1]);
+        assertNotEquals(exact, evaluator.evaluateWithHorner(point)[0], 1e-15 * exact);
+    }
+
+    @Test
+    public void testEvaluateExactly() {
+        AdaptiveEvaluator evaluator = new AdaptiveEvaluator(CLUSTERED);
+        assertEquals(Math.scalb(1.0, -140), evaluator.evaluateExactly(1 + Math.scalb(1.0, -20)));
+        assertEquals(0, evaluator.evaluateExactly(1));
+
+        // x^8 underflows, but keeps its sign
+        evaluator = new AdaptiveEvaluator(toPolynomial(0, 0, 0, 0, 0, 0, 0, 0, 1));
+        assertEquals(Double.MIN_VALUE, evaluator.evaluateAtPoint(1e-300));
+    }
+
+    @Test
+    public void testCoefficientsNotExactInDoubles() {
+        // x - (2^60 + 1), whose constant rounds to 2^60 as a double
+        BigInteger constant = BigInteger.ONE.shiftLeft(60).add(BigInteger.ONE);
+        AdaptiveEvaluator evaluator = new AdaptiveEvaluator(new BigInteger[] {constant.negate(), BigInteger.ONE});
+        assertEquals(-1, evaluator.evaluateAtPoint(Math.scalb(1.0, 60)));
+
+        // the Horner bound covers the rounded constant, so evaluating in doubles alone never gets the sign wrong
+        double[] evaluation = evaluator.evaluateWithHorner(Math.scalb(1.0, 60));
+        assertTrue(Math.abs(evaluation[0] + 1) <= evaluation[1]);
+        assertEquals(-1, evaluator.getSign(0));
+        assertTrue(evaluator.isRootFree(0, 1));
+        assertFalse(evaluator.isRootFree(Math.scalb(1.0, 59), Math.scalb(1.0, 61)));
+    }
+
+    @Test
+    public void testIsRootFree() {
+        // x^2 - 2
+        AdaptiveEvaluator evaluator = new AdaptiveEvaluator(toPolynomial(-2, 0, 1));
+        assertTrue(evaluator.isRootFree(1, 1.3));
+        assertTrue(evaluator.isRootFree(-1.3, -1));
+        assertFalse(evaluator.isRootFree(1, 1.5));
+        assertFalse(evaluator.isRootFree(1.4142, 1.4143));
+
+        evaluator = new AdaptiveEvaluator(CLUSTERED);
+        assertTrue(evaluator.isRootFree(2.9, 3));
+        assertFalse(evaluator.isRootFree(1.001, 1.002)); // root-free, but too flat to certify
+    }
+}
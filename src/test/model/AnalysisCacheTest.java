@@ -0,0 +1,60 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalysisCacheTest {
+    @BeforeEach
+    public void runBefore() {
+        AnalysisCache.clear();
+    }
+
+    @Test
+    public void testGetAnalysisHitsAndMisses() {
+        Polynomial polynomial = new Polynomial("x^2 - 4");
+        assertEquals("[-2, 2]", AnalysisCache.getAnalysis(polynomial).getXIntercepts().toString());
+        assertEquals(0, AnalysisCache.getHitCount());
+        assertEquals(1, AnalysisCache.getMissCount());
+
+        // an equal polynomial hits the same entry, and the cached list can't be changed through the result
+        List<Root> roots = new Polynomial("x^2 - 4").getXIntercepts();
+        roots.clear();
+        assertEquals("[-2, 2]", polynomial.getXIntercepts().toString());
+        assertEquals(2, AnalysisCache.getHitCount());
+        assertEquals(1, AnalysisCache.getMissCount());
+        assertEquals(1, AnalysisCache.getSize());
+    }
+
+    @Test
+    public void testGetAnalysisAfterChange() {
+        Polynomial polynomial = new Polynomial("x - 1");
+        assertEquals("[1]", polynomial.getXIntercepts().toString());
+
+        // the cached key is a copy, so it doesn't change with the polynomial
+        polynomial.addTerm(new Term(-1, 1, 0));
+        assertEquals("[2]", polynomial.getXIntercepts().toString());
+        assertEquals("[1]", new Polynomial("x - 1").getXIntercepts().toString());
+        assertEquals(2, AnalysisCache.getSize());
+        assertEquals(1, AnalysisCache.getHitCount());
+    }
+
+    @Test
+    public void testEviction() {
+        for (int i = 1; i <= 300; i++) {
+            AnalysisCache.getAnalysis(new Polynomial("x - " + i));
+        }
+        assertEquals(256, AnalysisCache.getSize());
+        assertEquals(44, AnalysisCache.getEvictionCount());
+
+        // the most recently used entries are kept, and the least recently used were evicted
+        AnalysisCache.getAnalysis(new Polynomial("x - 300"));
+        assertEquals(1, AnalysisCache.getHitCount());
+        AnalysisCache.getAnalysis(new Polynomial("x - 1"));
+        assertEquals(1, AnalysisCache.getHitCount());
+        assertEquals(301, AnalysisCache.getMissCount());
+    }
+}
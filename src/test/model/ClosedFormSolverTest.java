@@ -0,0 +1,63 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClosedFormSolverTest {
+    @Test
+    public void testSolveQuadratic() {
+        assertArrayEquals(new double[] {1, 2}, ClosedFormSolver.solveQuadratic(1, -3, 2));
+        assertArrayEquals(new double[] {0, 0}, ClosedFormSolver.solveQuadratic(1, 0, 0));
+        assertEquals(0, ClosedFormSolver.solveQuadratic(1, 0, 1).length);
+
+        // the small root would lose all of its digits to cancellation with the textbook formula
+        double[] roots = ClosedFormSolver.solveQuadratic(1, -1e8, 1);
+        assertEquals(1e-8, roots[0], 1e-22);
+        assertEquals(1e8, roots[1], 1e-6);
+    }
+
+    @Test
+    public void testSolveCubicOneRealRoot() {
+        // x^3 - 2
+        assertArrayEquals(new double[] {Math.cbrt(2)}, ClosedFormSolver.solveCubic(1, 0, 0, -2), 1e-15);
+
+        // -x^3 + x^2 + x + 1
+        assertArrayEquals(new double[] {1.839286755214161}, ClosedFormSolver.solveCubic(-1, 1, 1, 1), 1e-14);
+    }
+
+    @Test
+    public void testSolveCubicThreeRealRoots() {
+        // (x - 1)(x - 2)(x - 3)
+        assertArrayEquals(new double[] {1, 2, 3}, ClosedFormSolver.solveCubic(1, -6, 11, -6), 1e-14);
+
+        // x^3 - 3x - 1 has roots 2cos(pi/9), 2cos(7pi/9), 2cos(13pi/9)
+        double[] expected = {2 * Math.cos(7 * Math.PI / 9), 2 * Math.cos(13 * Math.PI / 9), 2 * Math.cos(Math.PI / 9)};
+        assertArrayEquals(expected, ClosedFormSolver.solveCubic(1, 0, -3, -1), 1e-14);
+    }
+
+    @Test
+    public void testSolveQuartic() {
+        // (x^2 - 2)(x^2 - 3)
+        double[] expected = {-Math.sqrt(3), -Math.sqrt(2), Math.sqrt(2), Math.sqrt(3)};
+        assertArrayEquals(expected, ClosedFormSolver.solveQuartic(1, 0, -5, 0, 6), 1e-14);
+
+        // (x^2 - 2)(x^2 + 2x + 3) = x^4 + 2x^3 + x^2 - 4x - 6
+        assertArrayEquals(new double[] {-Math.sqrt(2), Math.sqrt(2)}, ClosedFormSolver.solveQuartic(1, 2, 1, -4, -6),
+                1e-14);
+
+        // x^4 + 1
+        assertEquals(0, ClosedFormSolver.solveQuartic(1, 0, 0, 0, 1).length);
+
+        // 3x^4 + 6x^3 - 5x^2 - 8x - 5, whose depressed form has q = 0 up to rounding, which left the resolvent's
+        // largest root at zero and the roots NaN
+        assertArrayEquals(new double[] {-2.354523, 1.354523}, ClosedFormSolver.solveQuartic(3, 6, -5, -8, -5), 1e-6);
+    }
+
+    // only needed for coverage
+    @Test
+    public void testStaticConstructor() {
+        ClosedFormSolver closedFormSolver = new ClosedFormSolver();
+        assertNotNull(closedFormSolver);
+    }
+}
@@ -0,0 +1,64 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompanionMatrixSolverTest {
+    @Test
+    public void testSolveLinear() {
+        List<ComplexRoot> roots = new CompanionMatrixSolver().solve(new double[] {-3, 2});
+        assertEquals("[1.500000]", roots.toString());
+    }
+
+    @Test
+    public void testSolveRealRoots() {
+        // (x - 1)(x - 2)(x - 3)
+        List<ComplexRoot> roots = new CompanionMatrixSolver().solve(new double[] {-6, 11, -6, 1});
+        assertEquals("[1.000000, 2.000000, 3.000000]", roots.toString());
+    }
+
+    @Test
+    public void testSolveComplexRoots() {
+        // (x^2 + 1)(x - 2)(x^2 + 2x + 5)
+        CompanionMatrixSolver solver = new CompanionMatrixSolver();
+        List<ComplexRoot> roots = solver.solve(new double[] {-10, 1, -10, 2, 0, 1});
+        assertEquals("[-1.000000-2.000000i, -1.000000+2.000000i, 0.000000-1.000000i, 0.000000+1.000000i, 2.000000]",
+                roots.toString());
+
+        // the solver can be reused for smaller polynomials
+        assertEquals("[0.000000-1.000000i, 0.000000+1.000000i]", solver.solve(new double[] {1, 0, 1}).toString());
+    }
+
+    @Test
+    public void testSolveHighDegree() {
+        // x^100 - 1 has the 100th roots of unity as roots
+        double[] coefficients = new double[101];
+        coefficients[0] = -1;
+        coefficients[100] = 1;
+
+        List<ComplexRoot> roots = new CompanionMatrixSolver().solve(coefficients);
+        assertEquals(100, roots.size());
+        for (ComplexRoot root : roots) {
+            assertEquals(1, root.getModulus(), 1e-9);
+        }
+        assertEquals("-1.000000", roots.get(0).toString());
+        assertEquals("1.000000", roots.get(99).toString());
+    }
+
+    @Test
+    public void testSolveNotConverging() {
+        // coefficients spread over 250 orders of magnitude, where the QR iteration stalls on the 9th eigenvalue
+        double[] coefficients = {1e-126, -1e7, 1e-44, 1e38, -1e60, -1e97, 1e-36, -1e22, 1e-21, 1e-83, 1e132};
+        assertThrows(ArithmeticException.class, () -> new CompanionMatrixSolver().solve(coefficients));
+    }
+
+    @Test
+    public void testSolveOverflow() {
+        // 1e-300x^3 + 1e300x + 1, whose companion matrix has -1e600 in it
+        assertThrows(ArithmeticException.class, () -> new CompanionMatrixSolver().solve(new double[] {1, 1e300, 0,
+                1e-300}));
+    }
+}
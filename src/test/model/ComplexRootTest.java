@@ -0,0 +1,55 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComplexRootTest {
+    @Test
+    public void testRealRoot() {
+        ComplexRoot root = new ComplexRoot(1.5, 1e-12);
+        assertTrue(root.isReal());
+        assertEquals("1.500000", root.toString());
+        assertEquals(1.5, root.getModulus(), 1e-9);
+    }
+
+    @Test
+    public void testComplexRoot() {
+        ComplexRoot positive = new ComplexRoot(-1, 2);
+        assertFalse(positive.isReal());
+        assertEquals(-1, positive.getReal());
+        assertEquals(2, positive.getImaginary());
+        assertEquals("-1.000000+2.000000i", positive.toString());
+        assertEquals(Math.sqrt(5), positive.getModulus());
+
+        ComplexRoot negative = new ComplexRoot(-1, -2);
+        assertEquals("-1.000000-2.000000i", negative.toString());
+    }
+
+    @Test
+    public void testCompareTo() {
+        List<ComplexRoot> roots = new ArrayList<>();
+        roots.add(new ComplexRoot(1, 1));
+        roots.add(new ComplexRoot(1, -1));
+        roots.add(new ComplexRoot(-1, 0));
+        Collections.sort(roots);
+        assertEquals("[-1.000000, 1.000000-1.000000i, 1.000000+1.000000i]", roots.toString());
+    }
+
+    @Test
+    public void testToStringFromManyThreads() {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            expected.add(new ComplexRoot(i / 7.0, -i / 3.0).toString());
+        }
+        List<String> actual = IntStream.range(0, 10000).parallel()
+                .mapToObj(i -> new ComplexRoot(i / 7.0, -i / 3.0).toString()).collect(Collectors.toList());
+        assertEquals(expected, actual);
+    }
+}
@@ -0,0 +1,86 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DenseCoefficientsTest {
+    private DenseCoefficients coefficients;
+
+    @BeforeEach
+    void runBefore() {
+        coefficients = new DenseCoefficients();
+    }
+
+    @Test
+    public void testEmpty() {
+        assertEquals(-1, coefficients.getDegree());
+        assertEquals(0, coefficients.size());
+        assertTrue(coefficients.isZero(0));
+        assertTrue(coefficients.get(3).isZero());
+        assertEquals(3, coefficients.get(3).getDegree());
+        assertTrue(coefficients.getTerms().isEmpty());
+        assertEquals(0, coefficients.evaluateAtPoint(2));
+    }
+
+    @Test
+    public void testAdd() {
+        coefficients.add(new Term(1, 2, 20));
+        coefficients.add(new Term(-3, 1, 0));
+        coefficients.add(new Term(1, 3, 20));
+        coefficients.add(new Term(0, 1, 30));
+
+        assertEquals(20, coefficients.getDegree());
+        assertEquals(2, coefficients.size());
+        assertEquals("5/6x^20", coefficients.get(20).toString());
+        assertTrue(coefficients.isZero(10));
+        assertEquals("[-3, 5/6x^20]", coefficients.getTerms().toString());
+        assertEquals(Math.pow(2, 20) * 5 / 6 - 3, coefficients.evaluateAtPoint(2));
+    }
+
+    @Test
+    public void testAddCanceling() {
+        coefficients.add(new Term(1, 1, 1));
+        coefficients.add(new Term(2, 1, 5));
+        coefficients.add(new Term(-2, 1, 5));
+
+        assertEquals(1, coefficients.getDegree());
+        assertEquals(1, coefficients.size());
+        assertTrue(coefficients.isZero(5));
+
+        coefficients.add(new Term(-1, 1, 1));
+        assertEquals(-1, coefficients.getDegree());
+        assertEquals(0, coefficients.size());
+    }
+
+    @Test
+    public void testBigCoefficients() {
+        coefficients.add(new Term(Long.MAX_VALUE, 1, 2));
+        coefficients.add(new Term(Long.MAX_VALUE, 1, 2));
+        assertTrue(coefficients.get(2).isBigCoefficient());
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(1), coefficients.get(2).getBigNumerator());
+        assertEquals(2.0 * Long.MAX_VALUE, coefficients.evaluateAtPoint(1));
+
+        coefficients.add(new Term(-Long.MAX_VALUE, 1, 2));
+        assertFalse(coefficients.get(2).isBigCoefficient());
+        assertEquals(Long.MAX_VALUE, coefficients.get(2).getNumerator());
+
+        coefficients.clear();
+        assertEquals(-1, coefficients.getDegree());
+        assertTrue(coefficients.isZero(2));
+    }
+
+    @Test
+    public void testHighDegree() {
+        for (int i = 0; i <= 10000; i++) {
+            coefficients.add(new Term(i + 1, 1, i));
+        }
+        assertEquals(10000, coefficients.getDegree());
+        assertEquals(10001, coefficients.size());
+        assertEquals("10001x^10000", coefficients.get(10000).toString());
+        assertEquals(10001 * 10002 / 2, coefficients.evaluateAtPoint(1));
+    }
+}
@@ -0,0 +1,64 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import static model.TestPolynomials.getChebyshevPolynomial;
+import static model.TestPolynomials.toPolynomial;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DescartesIsolatorTest {
+    @Test
+    public void testIsolateRoots() {
+        // (x - 1)(x - 2)(x - 3); 2 lands exactly on a bisection point
+        List<IsolatingInterval> intervals = new DescartesIsolator().isolateRoots(toPolynomial(-6, 11, -6, 1));
+        assertEquals("[(0, 2), [2], (2, 4)]", intervals.toString());
+    }
+
+    @Test
+    public void testIsolateNegativeAndZeroRoots() {
+        // x(x^2 - 2)
+        List<IsolatingInterval> intervals = new DescartesIsolator().isolateRoots(toPolynomial(0, -2, 0, 1));
+        assertEquals(3, intervals.size());
+        assertTrue(intervals.get(0).getLeft() < -Math.sqrt(2) && -Math.sqrt(2) < intervals.get(0).getRight());
+        assertTrue(intervals.get(1).isExactRoot());
+        assertEquals(0, intervals.get(1).getLeft());
+        assertTrue(intervals.get(2).getLeft() < Math.sqrt(2) && Math.sqrt(2) < intervals.get(2).getRight());
+    }
+
+    @Test
+    public void testIsolateCloseRoots() {
+        // 200000(x - 0.5)(x - 0.50001)
+        List<IsolatingInterval> intervals = new DescartesIsolator().isolateRoots(toPolynomial(50001, -200002, 200000));
+        assertEquals(2, intervals.size());
+        assertTrue(intervals.get(0).isExactRoot());
+        assertEquals(0.5, intervals.get(0).getLeft());
+        assertTrue(intervals.get(1).getLeft() < 0.50001 && 0.50001 < intervals.get(1).getRight());
+    }
+
+    @Test
+    public void testIsolateNoRealRoots() {
+        assertTrue(new DescartesIsolator().isolateRoots(toPolynomial(1, 0, 1)).isEmpty());
+    }
+
+    @Test
+    public void testIsolateRootsInParallel() {
+        // T_64 is irreducible, so all 64 roots are isolated together
+        BigInteger[] p = getChebyshevPolynomial(64);
+        List<IsolatingInterval> expected = new DescartesIsolator().isolateRoots(p);
+        assertEquals(64, expected.size());
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<IsolatingInterval> intervals =
+                    pool.invoke(ForkJoinTask.adapt(() -> new DescartesIsolator(true).isolateRoots(p)));
+            assertEquals(expected.toString(), intervals.toString());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Random;
+
+import static model.TestPolynomials.getChebyshevPolynomial;
+import static model.TestPolynomials.toPolynomial;
+import static org.junit.jupiter.api.Assertions.*;
+
+class InterlacingSolverTest {
+    @Test
+    public void testFindRealRoots() {
+        // (x - 1)(x - 2)(x - 3)
+        assertArrayEquals(new double[] {1, 2, 3}, new InterlacingSolver().findRealRoots(toPolynomial(-6, 11, -6, 1)),
+                1e-12);
+
+        // 2x + 1, and x^4 + 1 without any real roots
+        assertArrayEquals(new double[] {-0.5}, new InterlacingSolver().findRealRoots(toPolynomial(1, 2)));
+        assertEquals(0, new InterlacingSolver().findRealRoots(toPolynomial(1, 0, 0, 0, 1)).length);
+    }
+
+    @Test
+    public void testFindRealRootsSeeded() {
+        // x^3 - 3x, whose critical points are -1 and 1
+        BigInteger[] p = toPolynomial(0, -3, 0, 1);
+        double[] roots = new InterlacingSolver(p, new double[] {-1, 1}).findRealRoots(p);
+        assertArrayEquals(new double[] {-Math.sqrt(3), 0, Math.sqrt(3)}, roots, 1e-12);
+
+        // seeds that aren't the critical points are ignored
+        assertArrayEquals(roots, new InterlacingSolver(p, new double[] {0}).findRealRoots(p), 1e-12);
+        assertArrayEquals(roots, new InterlacingSolver(p, new double[0]).findRealRoots(p), 1e-12);
+        assertArrayEquals(roots, new InterlacingSolver(p, new double[] {-1, 0, 1}).findRealRoots(p), 1e-12);
+    }
+
+    @Test
+    public void testFindRealRootsOfFactorsSeeded() {
+        // (x^5 - 5x + 1)(x^2 - 2), solved once from its critical points and then picked out factor by factor
+        BigInteger[] quintic = toPolynomial(1, -5, 0, 0, 0, 1);
+        BigInteger[] quadratic = toPolynomial(-2, 0, 1);
+        BigInteger[] p = ZMathUtil.multiply(quintic, quadratic);
+        InterlacingSolver solver = new InterlacingSolver(p,
+                new InterlacingSolver().findRealRoots(ZMathUtil.getDerivative(p)));
+        assertArrayEquals(new InterlacingSolver().findRealRoots(quintic), solver.findRealRoots(quintic), 1e-15);
+        assertArrayEquals(new double[] {-Math.sqrt(2), Math.sqrt(2)}, solver.findRealRoots(quadratic), 1e-15);
+        assertArrayEquals(new double[] {1.0 / 3}, solver.findRealRoots(toPolynomial(-1, 3)), 0);
+
+        // x^2 (x - 1) isn't square-free, so it's solved unseeded
+        p = toPolynomial(0, 0, -1, 1);
+        solver = new InterlacingSolver(p, new double[] {0, 2.0 / 3});
+        assertArrayEquals(new double[] {1}, solver.findRealRoots(toPolynomial(-1, 1)));
+    }
+
+    @Test
+    public void testFindRealRootsWilkinson() {
+        // (x - 1)(x - 2)...(x - 20), whose roots are famously ill-conditioned
+        BigInteger[] p = toPolynomial(1);
+        for (int i = 1; i <= 20; i++) {
+            p = ZMathUtil.multiply(p, toPolynomial(-i, 1));
+        }
+
+        double[] roots = new InterlacingSolver().findRealRoots(p);
+        assertEquals(20, roots.length);
+        for (int i = 1; i <= 20; i++) {
+            assertEquals(i, roots[i - 1], 1e-9 * i);
+        }
+    }
+
+    @Test
+    public void testFindRealRootsChebyshev() {
+        double[] roots = new InterlacingSolver().findRealRoots(getChebyshevPolynomial(24));
+        assertEquals(24, roots.length);
+        for (int k = 1; k <= 24; k++) {
+            assertEquals(-Math.cos((2 * k - 1) * Math.PI / 48), roots[k - 1], 1e-12);
+        }
+    }
+
+    @Test
+    public void testFindRealRootsClustered() {
+        // (100000x - 1)(100001x - 1)(x^2 + 1), with roots about 1e-10 apart
+        BigInteger[] p = ZMathUtil.multiply(ZMathUtil.multiply(toPolynomial(-1, 100000), toPolynomial(-1, 100001)),
+                toPolynomial(1, 0, 1));
+        double[] roots = new InterlacingSolver().findRealRoots(p);
+        assertEquals(2, roots.length);
+        assertEquals(1.0 / 100001, roots[0], 1e-18);
+        assertEquals(1.0 / 100000, roots[1], 1e-18);
+    }
+
+    @Test
+    public void testFindRealRootsMignotte() {
+        // x^7 - 2(1000000x - 1)^2, irreducible, with two roots about 1e-27 apart on either side of a maximum
+        BigInteger[] p = toPolynomial(-2, 4000000, -2000000000000L, 0, 0, 0, 0, 1);
+        double[] roots = new InterlacingSolver().findRealRoots(p);
+        assertEquals(3, roots.length);
+        assertEquals(0.000001, roots[0], 1e-20);
+        assertEquals(0.000001, roots[1], 1e-20);
+        assertEquals(288.539981, roots[2], 1e-6);
+
+        Polynomial polynomial = new Polynomial("x^7 - 2000000000000x^2 + 4000000x - 2");
+        assertEquals(Root.solveForPolynomial(polynomial).toString(),
+                Root.solveForPolynomialByInterlacing(polynomial).toString());
+    }
+
+    @Test
+    public void testFindRealRootsSameAsDescartes() {
+        Random random = new Random(0);
+        for (int trial = 0; trial < 200; trial++) {
+            long[] coefficients = new long[2 + random.nextInt(12)];
+            for (int i = 0; i < coefficients.length; i++) {
+                coefficients[i] = random.nextInt(41) - 20;
+            }
+            coefficients[coefficients.length - 1] = 1 + random.nextInt(5);
+            BigInteger[] p = ZMathUtil.getSquareFreePart(toPolynomial(coefficients));
+            if (ZMathUtil.getDegree(p) < 1) {
+                continue;
+            }
+
+            double[] roots = new InterlacingSolver().findRealRoots(p);
+            List<IsolatingInterval> intervals = new DescartesIsolator().isolateRoots(p);
+            assertEquals(intervals.size(), roots.length);
+            for (int i = 0; i < roots.length; i++) {
+                assertTrue(intervals.get(i).getLeft() <= roots[i] && roots[i] <= intervals.get(i).getRight());
+            }
+        }
+    }
+
+    @Test
+    public void testSolveForPolynomialByInterlacing() {
+        // (x - 1)^2 (x^5 - 5x + 1), where the quintic has three real roots that can't be found exactly
+        Polynomial polynomial = new Polynomial("x^7 - 2x^6 + x^5 - 5x^3 + 11x^2 - 7x + 1");
+        assertEquals(Root.solveForPolynomial(polynomial).toString(),
+                Root.solveForPolynomialByInterlacing(polynomial).toString());
+        assertEquals(2, Root.solveForPolynomialByInterlacing(polynomial).get(2).getMultiplicity());
+    }
+}
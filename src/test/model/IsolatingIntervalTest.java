@@ -0,0 +1,31 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IsolatingIntervalTest {
+    @Test
+    public void testInterval() {
+        IsolatingInterval interval = new IsolatingInterval(BigInteger.valueOf(3), BigInteger.valueOf(5), 2);
+        assertEquals(0.75, interval.getLeft());
+        assertEquals(1.25, interval.getRight());
+        assertEquals(2, interval.getExponent());
+        assertFalse(interval.isExactRoot());
+        assertEquals("(3/4, 5/4)", interval.toString());
+
+        IsolatingInterval negation = interval.getNegation();
+        assertEquals(BigInteger.valueOf(-5), negation.getLeftNumerator());
+        assertEquals(BigInteger.valueOf(-3), negation.getRightNumerator());
+        assertEquals("(-5/4, -3/4)", negation.toString());
+    }
+
+    @Test
+    public void testExactRoot() {
+        IsolatingInterval interval = new IsolatingInterval(BigInteger.valueOf(7), BigInteger.valueOf(7), 0);
+        assertTrue(interval.isExactRoot());
+        assertEquals("[7]", interval.toString());
+    }
+}
@@ -2,6 +2,11 @@ package model;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class NMathUtilTest {
@@ -13,6 +18,64 @@ class NMathUtilTest {
         assertEquals("[1, 2, 4]", NMathUtil.getFactors(4).toString());
     }
 
+    @Test
+    public void testGetFactorsHighlyComposite() {
+        List<Integer> factors = NMathUtil.getFactors(720720);
+        assertEquals(240, factors.size());
+        assertEquals(720720, factors.get(factors.size() - 1));
+        assertEquals("[1, 2147483647]", NMathUtil.getFactors(Integer.MAX_VALUE).toString());
+        assertEquals("[]", NMathUtil.getFactors(0).toString());
+    }
+
+    @Test
+    public void testFactorNonPositive() {
+        assertThrows(IllegalArgumentException.class, () -> NMathUtil.getFactors(Integer.MIN_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> NMathUtil.getPrimeFactorization(0));
+        assertThrows(IllegalArgumentException.class, () -> NMathUtil.getPrimeFactorization(Integer.MIN_VALUE));
+    }
+
+    @Test
+    public void testGetDivisorsLarge() {
+        assertEquals("[1, 998244353, 1000000007, 998244359987710471]",
+                NMathUtil.getDivisors(998244353L * 1000000007L).toString());
+        assertEquals("[1]", NMathUtil.getDivisors(1).toString());
+    }
+
+    @Test
+    public void testGetPrimeFactorization() {
+        assertEquals("{2=3, 3=2, 5=1}", NMathUtil.getPrimeFactorization(360).toString());
+        assertSame(NMathUtil.getPrimeFactorization(360), NMathUtil.getPrimeFactorization(360));
+        assertEquals("{1000003=2}", NMathUtil.getPrimeFactorization(1000003L * 1000003L).toString());
+        assertEquals("{2147483647=2}", NMathUtil.getPrimeFactorization((long) Integer.MAX_VALUE
+                * Integer.MAX_VALUE).toString());
+        assertEquals("{2=62}", NMathUtil.getPrimeFactorization(1L << 62).toString());
+        assertEquals("{7=2, 73=1, 127=1, 337=1, 92737=1, 649657=1}",
+                NMathUtil.getPrimeFactorization(Long.MAX_VALUE).toString());
+    }
+
+    @Test
+    public void testIsPrime() {
+        assertFalse(NMathUtil.isPrime(1));
+        assertTrue(NMathUtil.isPrime(2));
+        assertFalse(NMathUtil.isPrime(561)); // Carmichael number
+        assertTrue(NMathUtil.isPrime(1000003));
+        assertFalse(NMathUtil.isPrime(3215031751L)); // strong pseudoprime to bases 2, 3, 5 and 7
+        assertTrue(NMathUtil.isPrime(9223372036854775783L));
+        assertFalse(NMathUtil.isPrime(9223372036854775783L * 3));
+    }
+
+    @Test
+    public void testGetPrimeFactorizationInParallel() {
+        // products of two primes, so every thread has to run Pollard's rho at the same time
+        long[] numbers = LongStream.range(0, 64).map(i -> (1000003L + 2 * i) * 998244353L).toArray();
+        List<String> parallel = Arrays.stream(numbers).parallel()
+                .mapToObj(a -> NMathUtil.getPrimeFactorization(a).toString() + NMathUtil.isPrime(a))
+                .collect(Collectors.toList());
+        for (int i = 0; i < numbers.length; i++) {
+            assertEquals(NMathUtil.getPrimeFactorization(numbers[i]).toString() + false, parallel.get(i));
+        }
+    }
+
     @Test
     public void testGetLargestFactorableSquare() {
         assertEquals(1, NMathUtil.getLargestFactorableSquare(0));
@@ -46,6 +109,14 @@ class NMathUtilTest {
         assertEquals(12, gcd);
     }
 
+    @Test
+    public void testGetGreatestCommonDivisorBinary() {
+        assertEquals(12, NMathUtil.getGCD(48, 180));
+        assertEquals(1, NMathUtil.getGCD(Integer.MAX_VALUE, 1 << 30));
+        assertEquals(3L << 35, NMathUtil.getGCD(3L << 40, 9L << 35));
+        assertEquals(1, NMathUtil.getGCD(0L, 5L));
+    }
+
     @Test
     public void testGetGetLowestCommonMultipleForRelativePrime() {
         int gcd = NMathUtil.getLCM(7,13);
@@ -0,0 +1,67 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolynomialAnalysisTest {
+    @Test
+    public void testAnalysis() {
+        // 1/3x^3 - x = 1/3x(x^2 - 3), whose derivative is x^2 - 1 and second derivative is 2x
+        PolynomialAnalysis analysis = new PolynomialAnalysis(new Polynomial("1/3x^3 - x"));
+        assertEquals("[-sqrt(3), 0, sqrt(3)]", analysis.getXIntercepts().toString());
+        assertEquals("[-1, 1]", analysis.getCriticalPoints().toString());
+        assertEquals("[0]", analysis.getInflectionPoints().toString());
+
+        // the roots are kept, but the caller gets its own list
+        List<Root> roots = analysis.getCriticalPoints();
+        roots.clear();
+        assertEquals("[-1, 1]", analysis.getCriticalPoints().toString());
+    }
+
+    @Test
+    public void testAnalysisMatchesPolynomial() {
+        Polynomial polynomial = new Polynomial("x^5 - 3/2x^4 - 2x^3 + 7x^2 + 4x - 12");
+        PolynomialAnalysis analysis = new PolynomialAnalysis(polynomial);
+        assertEquals(Root.solveForPolynomial(polynomial).toString(), analysis.getXIntercepts().toString());
+        assertEquals(Root.solveForPolynomial(polynomial.getDerivative()).toString(),
+                analysis.getCriticalPoints().toString());
+        assertEquals(Root.solveForPolynomial(polynomial.getDerivative().getDerivative()).toString(),
+                analysis.getInflectionPoints().toString());
+    }
+
+    @Test
+    public void testAnalysisOfIrreducible() {
+        // x^7 - 2000000000000x^2 + 4000000x - 2, with two roots too close to a maximum to tell apart in doubles, and
+        // x^5 - 5x + 1, whose roots can't be found exactly
+        for (String expression : new String[] {"x^7 - 2000000000000x^2 + 4000000x - 2", "x^5 - 5x + 1"}) {
+            Polynomial polynomial = new Polynomial(expression);
+            PolynomialAnalysis analysis = new PolynomialAnalysis(polynomial);
+            assertEquals(Root.solveForPolynomial(polynomial).toString(), analysis.getXIntercepts().toString());
+            assertEquals(Root.solveForPolynomial(polynomial.getDerivative()).toString(),
+                    analysis.getCriticalPoints().toString());
+        }
+    }
+
+    @Test
+    public void testAnalysisDoesNotChangeWithPolynomial() {
+        Polynomial polynomial = new Polynomial("x^2 - 4");
+        PolynomialAnalysis analysis = new PolynomialAnalysis(polynomial);
+        polynomial.addTerm(new Term(3, 1, 0));
+        assertEquals("[-2, 2]", analysis.getXIntercepts().toString());
+    }
+
+    @Test
+    public void testAnalysisOfConstants() {
+        PolynomialAnalysis analysis = new PolynomialAnalysis(new Polynomial("5"));
+        assertTrue(analysis.getXIntercepts().isEmpty());
+        assertTrue(analysis.getCriticalPoints().isEmpty());
+        assertTrue(analysis.getInflectionPoints().isEmpty());
+
+        analysis = new PolynomialAnalysis(new Polynomial());
+        assertTrue(analysis.getXIntercepts().isEmpty());
+        assertTrue(analysis.getInflectionPoints().isEmpty());
+    }
+}
@@ -0,0 +1,68 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.DoubleUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolynomialCompilerTest {
+    @Test
+    public void testCompile() {
+        double[] coefficients = {1, -2, 0, 0.5};
+        DoubleUnaryOperator operator = PolynomialCompiler.compile(coefficients);
+        PolynomialEvaluator evaluator = new PolynomialEvaluator(coefficients);
+        for (double point : new double[] {0, 1, -1, 2, 10, -3.5, 1e100}) {
+            assertEquals(evaluator.evaluateWithHorner(point), operator.applyAsDouble(point));
+        }
+        assertEquals(2.5, operator.applyAsDouble(-1));
+    }
+
+    @Test
+    public void testCompileSpecialCoefficients() {
+        assertEquals(0, PolynomialCompiler.compile(new double[0]).applyAsDouble(3));
+        assertEquals(7, PolynomialCompiler.compile(new double[] {7}).applyAsDouble(3));
+        // x^5 with -0.0 and repeated coefficients
+        DoubleUnaryOperator operator = PolynomialCompiler.compile(new double[] {-0.0, 0, 0, 0, 0, 1});
+        assertEquals(32, operator.applyAsDouble(2));
+        assertEquals(-243, operator.applyAsDouble(-3));
+        operator = PolynomialCompiler.compile(new double[] {3, 3, 3});
+        assertEquals(39, operator.applyAsDouble(3));
+    }
+
+    @Test
+    public void testCache() {
+        double[] coefficients = {4, 5, 6};
+        DoubleUnaryOperator operator = PolynomialCompiler.compile(coefficients);
+        coefficients[0] = 100;
+        assertNotSame(operator, PolynomialCompiler.compile(coefficients));
+        assertSame(operator, PolynomialCompiler.compile(new double[] {4, 5, 6}));
+        assertEquals(15, operator.applyAsDouble(1));
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, PolynomialCompiler.compile(new double[] {i, 1}).applyAsDouble(0));
+        }
+        assertEquals(64, PolynomialCompiler.getCacheSize());
+    }
+
+    @Test
+    public void testCompileHighDegree() {
+        double[] coefficients = new double[1500];
+        coefficients[0] = 1;
+        coefficients[1499] = 1;
+        DoubleUnaryOperator operator = PolynomialCompiler.compile(coefficients);
+        assertEquals(2, operator.applyAsDouble(1));
+        assertEquals(1, operator.applyAsDouble(0.5));
+    }
+
+    @Test
+    public void testCompiledPolynomial() {
+        Polynomial polynomial = new Polynomial("x^3 - 2x + 1");
+        DoubleUnaryOperator operator = polynomial.getCompiledEvaluator();
+        assertEquals(1, operator.applyAsDouble(0));
+        assertEquals(5, operator.applyAsDouble(2));
+        polynomial.addTerm(new Term(1, 1, 0));
+        assertEquals(5, operator.applyAsDouble(2));
+        assertEquals(6, polynomial.getCompiledEvaluator().applyAsDouble(2));
+    }
+}
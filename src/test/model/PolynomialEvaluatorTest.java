@@ -0,0 +1,124 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolynomialEvaluatorTest {
+    @Test
+    public void testFromTerms() {
+        // 1/2x^3 - 2x + 1
+        PolynomialEvaluator evaluator = new PolynomialEvaluator(
+                Arrays.asList(new Term(1, 1, 0), new Term(-2, 1, 1), new Term(1, 2, 3)));
+        assertEquals(3, evaluator.getDegree());
+        assertArrayEquals(new double[] {1, -2, 0, 0.5}, evaluator.getCoefficients());
+        assertEquals(1, evaluator.evaluateAtPoint(0));
+        assertEquals(1, evaluator.evaluateAtPoint(2));
+        assertEquals(2.5, evaluator.evaluateAtPoint(-1));
+        assertEquals(0.5 * 1000 - 20 + 1, evaluator.evaluateAtPoint(10));
+    }
+
+    @Test
+    public void testZeroPolynomial() {
+        PolynomialEvaluator evaluator = new PolynomialEvaluator(Arrays.asList());
+        assertEquals(-1, evaluator.getDegree());
+        assertEquals(0, evaluator.evaluateAtPoint(5));
+    }
+
+    @Test
+    public void testSnapshot() {
+        double[] coefficients = {-2, 0, 1};
+        PolynomialEvaluator evaluator = new PolynomialEvaluator(coefficients);
+        coefficients[0] = 0;
+        assertEquals(2, evaluator.evaluateAtPoint(2));
+
+        Polynomial polynomial = new Polynomial("x^2 - 2");
+        PolynomialEvaluator snapshot = polynomial.getEvaluator();
+        assertSame(snapshot, polynomial.getEvaluator());
+        polynomial.addTerm(new Term(1, 1, 1));
+        assertEquals(2, snapshot.evaluateAtPoint(2));
+        assertEquals(4, polynomial.evaluateAtPoint(2));
+        assertNotSame(snapshot, polynomial.getEvaluator());
+    }
+
+    @Test
+    public void testFusedMultiplyAdd() {
+        // (x - 1)^2 near x = 1, where each Horner step rounds only once
+        PolynomialEvaluator evaluator = new PolynomialEvaluator(new double[] {1, -2, 1});
+        double point = 1 + Math.ulp(1.0);
+        assertTrue(evaluator.evaluateAtPoint(point) >= 0);
+    }
+
+    @Test
+    public void testEvaluateAtPoints() {
+        PolynomialEvaluator evaluator = new PolynomialEvaluator(new double[] {1, -2, 0, 0.5});
+        for (int length : new int[] {0, 3, 4, 7, 600}) {
+            double[] points = new double[length];
+            for (int i = 0; i < length; i++) {
+                points[i] = (i - length / 2.0) / 7;
+            }
+
+            double[] results = new double[length];
+            evaluator.evaluateAtPoints(points, results);
+            for (int i = 0; i < length; i++) {
+                assertEquals(evaluator.evaluateAtPoint(points[i]), results[i]);
+            }
+        }
+    }
+
+    @Test
+    public void testEstrin() {
+        for (int degree = 0; degree <= 70; degree++) {
+            double[] coefficients = new double[degree + 1];
+            for (int i = 0; i <= degree; i++) {
+                coefficients[i] = (i % 3 - 1) * (1 + i / 10.0);
+            }
+
+            PolynomialEvaluator evaluator = new PolynomialEvaluator(coefficients);
+            for (double point : new double[] {-1.1, -0.5, 0, 0.3, 1, 1.05}) {
+                double horner = evaluator.evaluateWithHorner(point);
+                double estrin = evaluator.evaluateWithEstrin(point);
+                assertEquals(horner, estrin, 1e-12 * Math.max(1, Math.abs(horner)));
+                assertEquals(evaluator.evaluateAtPoint(point), degree >= 32 ? estrin : horner);
+            }
+        }
+        assertEquals(0, new PolynomialEvaluator(new double[0]).evaluateWithEstrin(2));
+    }
+
+    @Test
+    public void testEstrinAlternatingCoefficients() {
+        // 1 - 2x + 3x^2 - ..., in decreasing degrees after the first so that the scratch array is reused with
+        // leftovers from a longer polynomial in it
+        for (int degree : new int[] {32, 101, 64, 33, 47}) {
+            double[] coefficients = new double[degree + 1];
+            for (int i = 0; i <= degree; i++) {
+                coefficients[i] = (i % 2 == 0 ? 1 : -1) * (i + 1);
+            }
+
+            PolynomialEvaluator evaluator = new PolynomialEvaluator(coefficients);
+            for (double point : new double[] {-1.01, -0.9, 0.5, 0.99, 1, 1.01}) {
+                // both are within n + 1 roundings of the sum of the absolute terms, Horner's by the standard bound
+                double absoluteSum = 0;
+                for (int i = degree; i >= 0; i--) {
+                    absoluteSum = absoluteSum * Math.abs(point) + Math.abs(coefficients[i]);
+                }
+                double bound = 2 * (degree + 1) * Math.ulp(1.0) * absoluteSum;
+                assertEquals(evaluator.evaluateWithHorner(point), evaluator.evaluateWithEstrin(point), bound);
+            }
+        }
+    }
+
+    @Test
+    public void testEstrinOverflowingPower() {
+        // 1e-300x^64 + 1 at x = 1e5: x^64 overflows but the result doesn't, and the missing middle terms
+        // mustn't turn into NaN
+        double[] coefficients = new double[65];
+        coefficients[0] = 1;
+        coefficients[64] = 1e-300;
+        PolynomialEvaluator evaluator = new PolynomialEvaluator(coefficients);
+        assertEquals(1e20, evaluator.evaluateWithEstrin(1e5), 1e6);
+        assertEquals(1, evaluator.evaluateWithEstrin(1e-5));
+    }
+}
@@ -0,0 +1,106 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static model.TestPolynomials.getSwinnertonDyerPolynomial;
+import static model.TestPolynomials.toPolynomial;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolynomialFactorizerTest {
+    private PolynomialFactorizer factorizer;
+
+    @BeforeEach
+    public void runBefore() {
+        factorizer = new PolynomialFactorizer();
+    }
+
+    @Test
+    public void testFactorIrreducible() {
+        // x^4 + 1 is irreducible over Z, but factors mod every prime
+        List<BigInteger[]> factors = factorizer.factor(toPolynomial(1, 0, 0, 0, 1));
+        assertEquals(1, factors.size());
+        assertArrayEquals(toPolynomial(1, 0, 0, 0, 1), factors.get(0));
+
+        assertEquals(1, factorizer.factor(toPolynomial(3, 2)).size());
+        assertEquals(1, factorizer.factor(toPolynomial(-2, 0, 0, 1)).size());
+    }
+
+    @Test
+    public void testFactorSwinnertonDyer() {
+        // S_5 and S_6 split into 16 and 32 factors mod every prime, which would take up to 2^15 and 2^31 subsets to
+        // recombine, so the recombination gives up and returns them whole (which they are anyway)
+        for (int n = 5; n <= 6; n++) {
+            BigInteger[] p = getSwinnertonDyerPolynomial(n);
+            List<BigInteger[]> factors = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> factorizer.factor(p));
+            assertEquals(1, factors.size());
+            assertArrayEquals(p, factors.get(0));
+        }
+    }
+
+    @Test
+    public void testFactorProducts() {
+        // (x^2 + x + 1)(x^3 - 2)
+        List<BigInteger[]> factors = factorizer.factor(toPolynomial(-2, -2, -2, 1, 1, 1));
+        assertEquals(2, factors.size());
+        assertArrayEquals(toPolynomial(1, 1, 1), factors.get(0));
+        assertArrayEquals(toPolynomial(-2, 0, 0, 1), factors.get(1));
+
+        // -2(x^4 - 1) = -2(x - 1)(x + 1)(x^2 + 1), without the content or sign
+        factors = factorizer.factor(toPolynomial(2, 0, 0, 0, -2));
+        assertEquals(3, factors.size());
+        assertEquals(1, factors.get(0).length - 1);
+        assertEquals(1, factors.get(1).length - 1);
+        assertArrayEquals(toPolynomial(1, 0, 1), factors.get(2));
+    }
+
+    @Test
+    public void testFactorRepeated() {
+        // (2x + 1)^2 (x^2 - 3) = 4x^4 + 4x^3 - 11x^2 - 12x - 3
+        List<BigInteger[]> factors = factorizer.factor(toPolynomial(-3, -12, -11, 4, 4));
+        assertEquals(3, factors.size());
+        assertArrayEquals(toPolynomial(1, 2), factors.get(0));
+        assertArrayEquals(toPolynomial(1, 2), factors.get(1));
+        assertArrayEquals(toPolynomial(-3, 0, 1), factors.get(2));
+    }
+
+    @Test
+    public void testFactorLargeCoefficients() {
+        // (1000003x^2 - 999983)(x^2 + 1234567x + 1) needs a lift well beyond a word
+        BigInteger[] a = toPolynomial(-999983, 0, 1000003);
+        BigInteger[] b = toPolynomial(1, 1234567, 1);
+        List<BigInteger[]> factors = factorizer.factorSquareFree(ZMathUtil.multiply(a, b));
+        assertEquals(2, factors.size());
+        assertTrue(contains(factors, a));
+        assertTrue(contains(factors, b));
+    }
+
+    @Test
+    public void testFactorManyModularFactors() {
+        // the product of (x - 1), ..., (x - 6) and x^2 - 2 has many factors mod every prime
+        BigInteger[] p = toPolynomial(-2, 0, 1);
+        for (int i = 1; i <= 6; i++) {
+            p = ZMathUtil.multiply(p, toPolynomial(-i, 1));
+        }
+
+        List<BigInteger[]> factors = factorizer.factorSquareFree(p);
+        assertEquals(7, factors.size());
+        assertTrue(contains(factors, toPolynomial(-2, 0, 1)));
+        assertTrue(contains(factors, toPolynomial(-6, 1)));
+    }
+
+    // EFFECTS: returns whether the factors contain the polynomial
+    private static boolean contains(List<BigInteger[]> factors, BigInteger[] p) {
+        for (BigInteger[] factor : factors) {
+            if (Arrays.equals(factor, p)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -2,7 +2,12 @@ package model;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class PolynomialTest {
@@ -169,6 +174,71 @@ class PolynomialTest {
         assertEquals("[2.000200, 9.879109]", polynomial5.getXIntercepts().toString());
     }
 
+    @Test
+    public void testGetXInterceptsRepeatedIrrationalRoots() {
+        // (2x^2 - 1)^2 never changes sign, but its square-free factor 2x^2 - 1 does
+        Polynomial polynomial = new Polynomial("4x^4 - 4x^2 + 1");
+        List<Root> roots = polynomial.getXIntercepts();
+        assertEquals("[-sqrt(2)/2, sqrt(2)/2]", roots.toString());
+        assertEquals(2, roots.get(0).getMultiplicity());
+        assertEquals(2, roots.get(1).getMultiplicity());
+
+        assertEquals("[-sqrt(2), sqrt(2)]", new Polynomial("x^2 - 2").getXIntercepts().toString());
+    }
+
+    @Test
+    public void testGetXInterceptsMultiplicities() {
+        // x^2 (x - 1)^3 (x^3 - 2)
+        Polynomial polynomial = new Polynomial("x^8 - 3x^7 + 3x^6 - 3x^5 + 6x^4 - 6x^3 + 2x^2");
+        List<Root> roots = polynomial.getXIntercepts();
+        assertEquals("[0, 1, 1.259921]", roots.toString());
+        assertEquals(2, roots.get(0).getMultiplicity());
+        assertEquals(3, roots.get(1).getMultiplicity());
+        assertEquals(1, roots.get(2).getMultiplicity());
+    }
+
+    @Test
+    public void testGetXInterceptsFarRoots() {
+        Polynomial polynomial = new Polynomial("1/5000x^3 - x^2 - 7");
+        assertEquals("[5000.001400]", polynomial.getXIntercepts().toString());
+    }
+
+    @Test
+    public void testGetComplexRoots() {
+        Polynomial zero = new Polynomial();
+        assertEquals("[]", zero.getComplexRoots().toString());
+
+        Polynomial polynomial = new Polynomial("x^4 + x^2");
+        assertEquals("[0.000000-1.000000i, 0.000000, 0.000000, 0.000000+1.000000i]",
+                polynomial.getComplexRoots().toString());
+
+        Polynomial rational = new Polynomial("1/2x^2 - 1/2x + 1/4");
+        assertEquals("[0.500000-0.500000i, 0.500000+0.500000i]", rational.getComplexRoots().toString());
+    }
+
+    @Test
+    public void testGetXInterceptsWithSolvers() {
+        String[] polynomials = {"x^3 + 6x^2 + 11x + 6", "x^3 + 1/2x^2 + -x", "1/14x^3 + 2x^2 + 10x - 10",
+            "-x^4 + 3x + 100000", "-1/10000x^4 - x^2 + 12x - 20", "4x^4 - 4x^2 + 1"};
+
+        for (String polynomialStr : polynomials) {
+            Polynomial polynomial = new Polynomial(polynomialStr);
+            String expected = polynomial.getXIntercepts().toString();
+            assertEquals(expected, Root.solveForPolynomial(polynomial, new AberthSolver()).toString());
+            assertEquals(expected, Root.solveForPolynomial(polynomial, new CompanionMatrixSolver()).toString());
+        }
+    }
+
+    @Test
+    public void testGetComplexRootsWithSolvers() {
+        // (x^2 + 1)(x^3 - 2)
+        Polynomial polynomial = new Polynomial("x^5 + x^3 - 2x^2 - 2");
+        String expected = "[-0.629961-1.091124i, -0.629961+1.091124i, 0.000000-1.000000i, 0.000000+1.000000i, "
+                + "1.259921]";
+        assertEquals(expected, polynomial.getComplexRoots().toString());
+        assertEquals(expected, Root.solveForComplexRoots(polynomial, new CompanionMatrixSolver()).toString());
+    }
+
     @Test
     public void testGetYIntercept() {
         Polynomial zero = new Polynomial();
@@ -213,7 +283,7 @@ class PolynomialTest {
         Term term = new Term("2x");
         polynomial.addTerm(term);
 
-        String expectedLog = "Added " + term + " to polynomial (now " + polynomial + ")";
+        String expectedLog = "Added " + term + " to polynomial";
         StringBuilder actualLog = new StringBuilder();
 
         EventLog eventLog = EventLog.getInstance();
@@ -252,4 +322,166 @@ class PolynomialTest {
         }
         assertTrue(actualLog.toString().contains(expectedLog));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testDivide() {
+        Polynomial polynomial = new Polynomial("x^3 - 2x^2 + 1/2");
+        Polynomial divisor = new Polynomial("2x + 1");
+        assertEquals("1/2x^2 - 5/4x + 5/8", polynomial.divide(divisor).toString());
+        assertEquals("-1/8", polynomial.remainder(divisor).toString());
+
+        Polynomial factor = new Polynomial("1/3x - 1");
+        assertEquals("3x^2 + 9x + 27", new Polynomial("x^3 - 9").divide(factor).toString());
+        assertEquals("0", new Polynomial("x^2 - 9").remainder(factor).toString());
+        assertEquals("0", new Polynomial("3").divide(factor).toString());
+        assertEquals("3", new Polynomial("3").remainder(factor).toString());
+    }
+
+    @Test
+    public void testGcd() {
+        Polynomial polynomial1 = new Polynomial("1/2x^4 - 3x^3 + 5x^2 - 3x + 9/2");
+        Polynomial polynomial2 = new Polynomial("2x^3 + 5x^2 + 2x + 5");
+        assertEquals("x^2 + 1", polynomial1.gcd(polynomial2).toString());
+        assertEquals("x - 1/2", new Polynomial("4x - 2").gcd(new Polynomial()).toString());
+        assertEquals("1", new Polynomial("x").gcd(new Polynomial("x + 1")).toString());
+        assertEquals("0", new Polynomial().gcd(new Polynomial()).toString());
+    }
+
+    @Test
+    public void testGetXInterceptsLargeCoefficients() {
+        // the lcm of the denominators overflows an int
+        Polynomial polynomial1 = new Polynomial("1/65536x^2 - 1/65537");
+        assertEquals("[-0.999992, 0.999992]", polynomial1.getXIntercepts().toString());
+
+        // the constant overflows a long
+        Polynomial polynomial2 = new Polynomial("x^2 - 100000000000000000000");
+        assertEquals("x^2 - 100000000000000000000", polynomial2.toString());
+        assertEquals("[-10000000000.000000, 10000000000.000000]", polynomial2.getXIntercepts().toString());
+    }
+
+    @Test
+    public void testGetXInterceptsRationalCandidates() {
+        // (x - 720)(2x + 3)(x + 1001), whose constant has 160 factors
+        Polynomial polynomial1 = new Polynomial("2x^3 + 565x^2 - 1440597x - 2162160");
+        assertEquals("[-1001, -3/2, 720]", polynomial1.getXIntercepts().toString());
+
+        // (x - 1)^2 (x^2 + 2^70x + 1), whose synthetic division overflows longs
+        Polynomial polynomial2 = new Polynomial("x^4 + 1180591620717411303422x^3 - 2361183241434822606846x^2"
+                + " + 1180591620717411303422x + 1");
+        List<Root> roots = polynomial2.getXIntercepts();
+        assertEquals(3, roots.size());
+        assertEquals(-Math.scalb(1.0, 70), roots.get(0).getValue(), 1e6);
+        assertEquals(-Math.scalb(1.0, -70), roots.get(1).getValue(), 1e-30);
+        assertEquals("1", roots.get(2).getDisplayText());
+        assertEquals(2, roots.get(2).getMultiplicity());
+    }
+
+    @Test
+    public void testGetIrreducibleFactors() {
+        Polynomial polynomial1 = new Polynomial("-2x^4 + 2");
+        List<Polynomial> factors = polynomial1.getIrreducibleFactors();
+        assertEquals(4, factors.size());
+        assertEquals("-2", factors.get(0).toString());
+        assertEquals("x^2 + 1", factors.get(3).toString());
+        assertEquals("-2(x - 1)(x + 1)(x^2 + 1)", polynomial1.toFactoredString());
+
+        assertEquals("(x^2 + x + 1)(x^3 - 2)", new Polynomial("x^5 + x^4 + x^3 - 2x^2 - 2x - 2").toFactoredString());
+        assertEquals("1/2x^2(x + 1)^2", new Polynomial("1/2x^4 + x^3 + 1/2x^2").toFactoredString());
+        assertEquals("-x^4 - 1", new Polynomial("-x^4 - 1").toString());
+        assertEquals("-(x^4 + 1)", new Polynomial("-x^4 - 1").toFactoredString());
+        assertEquals("5", new Polynomial("5").toFactoredString());
+        assertEquals("0", new Polynomial().toFactoredString());
+    }
+
+    @Test
+    public void testGetXInterceptsIrreducibleFactors() {
+        // (x^2 - 2)(x^2 - 3) is solved as two quadratics, exactly
+        Polynomial polynomial = new Polynomial("x^4 - 5x^2 + 6");
+        List<Root> roots = polynomial.getXIntercepts();
+        assertEquals(4, roots.size());
+        assertEquals(-Math.sqrt(3), roots.get(0).getValue(), 1e-12);
+        assertEquals(-Math.sqrt(2), roots.get(1).getValue(), 1e-12);
+        assertEquals(Math.sqrt(2), roots.get(2).getValue(), 1e-12);
+        assertEquals(Math.sqrt(3), roots.get(3).getValue(), 1e-12);
+        assertEquals("[-sqrt(3), -sqrt(2), sqrt(2), sqrt(3)]", roots.toString());
+    }
+
+    @Test
+    public void testHighDegreeTermByTerm() {
+        Polynomial polynomial = new Polynomial();
+        for (int i = 10000; i >= 0; i--) {
+            polynomial.addTerm(new Term(1, 1, i));
+        }
+        assertEquals(10001, polynomial.getTerms().size());
+        assertEquals(10001, polynomial.evaluateAtPoint(1));
+        assertTrue(polynomial.toString().startsWith("x^10000 + x^9999 + "));
+        assertTrue(polynomial.toString().endsWith(" + x + 1"));
+        assertEquals("1", polynomial.getYIntercept());
+    }
+
+    @Test
+    public void testEqualsAndHashCode() {
+        Polynomial polynomial = new Polynomial("x^2 - 1/2");
+        assertEquals(new Polynomial("x^2 - 2/4"), polynomial);
+        assertEquals(new Polynomial("x^2 - 2/4").hashCode(), polynomial.hashCode());
+        assertEquals(polynomial, polynomial);
+        assertNotEquals(new Polynomial("x^2 + 1/2"), polynomial);
+        assertNotEquals(polynomial, "x^2 - 1/2");
+
+        // the same terms are equal whether they're stored densely or sparsely
+        Polynomial sparse = new Polynomial("x^100 + 1");
+        Polynomial dense = new Polynomial();
+        for (int i = 99; i >= 1; i--) {
+            dense.addTerm(new Term(1, 1, i));
+        }
+        dense.addTerm(new Term(1, 1, 100));
+        dense.addTerm(new Term(1, 1, 0));
+        for (int i = 1; i <= 99; i++) {
+            dense.addTerm(new Term(-1, 1, i));
+        }
+        assertEquals(sparse, dense);
+        assertEquals(sparse.hashCode(), dense.hashCode());
+    }
+
+    @Test
+    public void testSparsePolynomial() {
+        Polynomial polynomial = new Polynomial("x^1000000 + 3x^7 - 1");
+        assertEquals("x^1000000 + 3x^7 - 1", polynomial.toString());
+        assertEquals(3, polynomial.evaluateAtPoint(1));
+        assertEquals(-3, polynomial.evaluateAtPoint(-1));
+        assertEquals("-1", polynomial.getYIntercept());
+        assertEquals("1000000x^999999 + 21x^6", polynomial.getDerivative().toString());
+
+        // filling it in switches back to dense coefficients without changing the polynomial
+        for (int i = 0; i < 100; i++) {
+            polynomial.addTerm(new Term(1, 1, 100 + i));
+        }
+        polynomial.addTerm(new Term(-1, 1, 1000000));
+        assertEquals(102, polynomial.getTerms().size());
+        assertEquals(102, polynomial.evaluateAtPoint(1));
+        assertTrue(polynomial.toString().startsWith("x^199 + x^198 + "));
+        assertTrue(polynomial.toString().endsWith(" + x^100 + 3x^7 - 1"));
+
+        polynomial.derive();
+        assertEquals(101, polynomial.getTerms().size());
+    }
+
+    @Test
+    public void testEvaluateAtPoints() {
+        double[] points = {-2, -1, 0, 0.5, 1, 2};
+        double[] results = new double[points.length];
+
+        Polynomial polynomial = new Polynomial("1/2x^3 - 2x + 1");
+        polynomial.evaluateAtPoints(points, results);
+        assertArrayEquals(new double[] {1, 2.5, 1, 0.0625, -0.5, 1}, results);
+
+        Polynomial sparsePolynomial = new Polynomial("x^1000000 + 3x^7 - 1");
+        sparsePolynomial.evaluateAtPoints(points, results);
+        assertEquals(-1, results[2]);
+        assertEquals(-3, results[1]);
+        assertEquals(3, results[4]);
+
+        new Term(3, 1, 2).evaluateAtPoints(points, results);
+        assertArrayEquals(new double[] {12, 3, 0, 0.75, 3, 12}, results);
+    }
+}
@@ -0,0 +1,88 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import static model.TestPolynomials.toPolynomial;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RootRefinerTest {
+    @Test
+    public void testRefineSimpleRoot() {
+        // x^2 - 2
+        RootRefiner rootRefiner = new RootRefiner(toPolynomial(-2, 0, 1));
+        RootRefiner.Result result = rootRefiner.refine(1, 2);
+        assertEquals(Math.sqrt(2), result.getValue(), 1e-15);
+        assertNotEquals(RootRefiner.StopCriterion.ITERATION_LIMIT, result.getStopCriterion());
+        assertTrue(result.getIterations() < 10);
+    }
+
+    @Test
+    public void testRefineLargeCoefficients() {
+        // 10^9 * (x^3 - 3x - 1); an absolute epsilon on p(x) would never be reached
+        long scale = 1000000000;
+        RootRefiner rootRefiner = new RootRefiner(toPolynomial(-scale, -3 * scale, 0, scale));
+        RootRefiner.Result result = rootRefiner.refine(1, 2);
+        assertEquals(2 * Math.cos(Math.PI / 9), result.getValue(), 1e-14);
+        assertTrue(result.getIterations() < 15);
+    }
+
+    @Test
+    public void testRefineWideBracketWithNewtonSteps() {
+        // x^7 - 5; regula falsi alone creeps in from the far end of such a wide bracket, and needs about 60 steps
+        RootRefiner rootRefiner = new RootRefiner(toPolynomial(-5, 0, 0, 0, 0, 0, 0, 1));
+        RootRefiner.Result result = rootRefiner.refine(1, 1000);
+        assertEquals(Math.pow(5, 1.0 / 7), result.getValue(), 1e-15);
+        assertTrue(result.getIterations() < 20);
+    }
+
+    @Test
+    public void testRefineStopsOnIntervalWidth() {
+        // x - 1/3 in integer form; 1/3 is not a double, so p(x) is never exactly zero
+        RootRefiner rootRefiner = new RootRefiner(toPolynomial(-1, 3));
+        RootRefiner.Result result = rootRefiner.refine(0, 1);
+        assertEquals(1.0 / 3, result.getValue(), 1e-15);
+    }
+
+    @Test
+    public void testRefineTripleRoot() {
+        // (x - 1)^3; in doubles, p(x) is just rounding error within about 1e-5 of the root,
+        // so the bracket only keeps shrinking past that because the signs are certified
+        RootRefiner rootRefiner = new RootRefiner(toPolynomial(-1, 3, -3, 1));
+        assertEquals(1, rootRefiner.refine(0.3, 2).getValue(), 1e-14);
+        RootRefiner.Result result = rootRefiner.refine(0.5, 1.5);
+        assertEquals(1, result.getValue());
+        assertEquals(RootRefiner.StopCriterion.RESIDUAL, result.getStopCriterion());
+    }
+
+    @Test
+    public void testRefineWithEndsNearRoots() {
+        // x^3 - 30000000000x + 1999999999999999, whose two roots near 100000 are so close that plain Horner's method
+        // gets the sign wrong at the left end of this bracket around the larger one
+        RootRefiner rootRefiner = new RootRefiner(toPolynomial(1999999999999999L, -30000000000L, 0, 1));
+        assertEquals(100000.00182574185, rootRefiner.refine(100000.00180166135, 100000.00192373166).getValue(), 1e-9);
+    }
+
+    @Test
+    public void testBracketRoots() {
+        // x^2 - 2
+        RootRefiner rootRefiner = new RootRefiner(toPolynomial(-2, 0, 1));
+        double[][] brackets = rootRefiner.bracketRoots(new double[] {-1.4, 1.41}, 3);
+        assertEquals(2, brackets.length);
+        assertTrue(brackets[0][0] <= -Math.sqrt(2) && -Math.sqrt(2) <= brackets[0][1]);
+        assertTrue(brackets[1][0] <= Math.sqrt(2) && Math.sqrt(2) <= brackets[1][1]);
+        assertTrue(brackets[0][1] <= brackets[1][0]);
+
+        assertNull(rootRefiner.bracketRoots(new double[] {1.41, 1.41}, 3));
+        assertNull(rootRefiner.bracketRoots(new double[] {0}, 1)); // no sign change within the bound
+        assertEquals(1, new RootRefiner(toPolynomial(-1, 1)).bracketRoots(new double[] {1}, 2)[0][0]);
+    }
+
+    @Test
+    public void testEvaluateAtPoint() {
+        // 2x^2 - 3x + 1 at x = 2
+        double[] evaluation = new RootRefiner(toPolynomial(1, -3, 2)).evaluateAtPoint(2);
+        assertEquals(3, evaluation[0]);
+        assertEquals(5, evaluation[1]);
+        assertEquals(15 * 3, evaluation[2]);
+    }
+}
@@ -2,6 +2,14 @@ package model;
 
 import org.junit.jupiter.api.Test;
 
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static model.TestPolynomials.getChebyshevPolynomial;
+import static model.TestPolynomials.getSwinnertonDyerPolynomial;
+import static model.TestPolynomials.toPolynomial;
 import static org.junit.jupiter.api.Assertions.*;
 
 class RootTest {
@@ -60,4 +68,97 @@ class RootTest {
         assertEquals(1.4142135623730951, root2.getValue());
         assertEquals("sqrt(2)", root2.getDisplayText());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testQuadraticRootsWithoutLinearTerm() {
+        Root root1 = new Root(0, 2, 8, false);
+        assertEquals(-1.4142135623730951, root1.getValue());
+        assertEquals("-sqrt(2)", root1.getDisplayText());
+
+        Root root2 = new Root(0, 4, 8, true);
+        assertEquals(0.7071067811865476, root2.getValue());
+        assertEquals("sqrt(2)/2", root2.getDisplayText());
+    }
+
+    @Test
+    public void testMultiplicity() {
+        Root root = new Root(1, 2);
+        assertEquals(1, root.getMultiplicity());
+        root.setMultiplicity(3);
+        assertEquals(3, root.getMultiplicity());
+    }
+
+    @Test
+    public void testSolveInParallel() {
+        // T_32 (x^2 - 2)(x - 3) has three irreducible factors
+        BigInteger[] p = ZMathUtil.multiply(getChebyshevPolynomial(32), toPolynomial(6, -2, -3, 1));
+        Polynomial polynomial = new Polynomial();
+        for (int i = p.length - 1; i >= 0; i--) {
+            polynomial.addTerm(new Term(p[i], BigInteger.ONE, i));
+        }
+
+        List<Root> expected = Root.solveForPolynomial(polynomial, null, null);
+        assertEquals(35, expected.size());
+        assertEquals("-sqrt(2)", expected.get(0).toString());
+        assertEquals("3", expected.get(34).toString());
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertEquals(expected.toString(), Root.solveForPolynomial(polynomial, null, pool).toString());
+            assertEquals(expected.toString(), polynomial.getXIntercepts().toString());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testSolveWithMinimumIntConstant() {
+        // |-2^31| doesn't fit in an int, so the constant is too large to factor for the rational root theorem
+        Polynomial polynomial = new Polynomial();
+        polynomial.addTerm(new Term(1, 1, 2));
+        polynomial.addTerm(new Term(Integer.MIN_VALUE, 1, 0));
+
+        List<Root> roots = Root.solveForPolynomial(polynomial, null, null);
+        assertEquals(2, roots.size());
+        assertEquals(-Math.sqrt(-(double) Integer.MIN_VALUE), roots.get(0).getValue(), 1e-9);
+        assertEquals(Math.sqrt(-(double) Integer.MIN_VALUE), roots.get(1).getValue(), 1e-9);
+    }
+
+    @Test
+    public void testSolveSwinnertonDyer() {
+        // S_6, of degree 64, whose roots are +-sqrt(2) +- sqrt(3) +- ... +- sqrt(13)
+        BigInteger[] p = getSwinnertonDyerPolynomial(6);
+        List<Root> roots = assertTimeoutPreemptively(Duration.ofSeconds(30),
+                () -> Root.solveForIntegerPolynomial(p, null, ForkJoinPool.commonPool()));
+        assertEquals(64, roots.size());
+        double largest = Math.sqrt(2) + Math.sqrt(3) + Math.sqrt(5) + Math.sqrt(7) + Math.sqrt(11) + Math.sqrt(13);
+        assertEquals(largest, roots.get(63).getValue(), 1e-12);
+    }
+
+    @Test
+    public void testSolveQuarticWithRoundedDepressedForm() {
+        // the closed form used to return NaN or infinite roots for these, which the refinement couldn't evaluate
+        assertEquals("[-2.354523, 1.354523]", new Polynomial("3x^4 + 6x^3 - 5x^2 - 8x - 5").getXIntercepts()
+                .toString());
+        assertEquals("[-1.372163, 2.372163]", new Polynomial("-3x^4 + 6x^3 + 4x^2 - 7x + 9").getXIntercepts()
+                .toString());
+        assertEquals("[-0.386106, 1.386106]", new Polynomial("3x^4 - 6x^3 + 7x^2 - 4x - 3").getXIntercepts()
+                .toString());
+    }
+
+    @Test
+    public void testSolveCubicWithCloseRoots() {
+        // the closed form loses about half of the digits of these two roots to cancellation
+        Polynomial polynomial = new Polynomial();
+        polynomial.addTerm(new Term(1, 1, 3));
+        polynomial.addTerm(new Term(-30000000000L, 1, 1));
+        polynomial.addTerm(new Term(1999999999999999L, 1, 0));
+
+        List<Root> roots = Root.solveForPolynomial(polynomial);
+        assertEquals(3, roots.size());
+        assertEquals("99999.998174", roots.get(1).getDisplayText());
+        assertEquals("100000.001826", roots.get(2).getDisplayText());
+        assertEquals(roots.toString(), Root.solveForPolynomial(polynomial, null, null).toString());
+        assertEquals(roots.toString(), Root.solveForPolynomialByInterlacing(polynomial).toString());
+    }
+}
@@ -0,0 +1,103 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SparseCoefficientsTest {
+    private SparseCoefficients coefficients;
+
+    @BeforeEach
+    void runBefore() {
+        coefficients = new SparseCoefficients();
+    }
+
+    @Test
+    public void testEmpty() {
+        assertEquals(-1, coefficients.getDegree());
+        assertEquals(0, coefficients.size());
+        assertTrue(coefficients.isZero(0));
+        assertTrue(coefficients.get(3).isZero());
+        assertTrue(coefficients.getTerms().isEmpty());
+        assertEquals(0, coefficients.evaluateAtPoint(2));
+    }
+
+    @Test
+    public void testAdd() {
+        coefficients.add(new Term(1, 1, 1000000));
+        coefficients.add(new Term(-1, 1, 0));
+        coefficients.add(new Term(3, 1, 7));
+        coefficients.add(new Term(1, 2, 7));
+        coefficients.add(new Term(0, 1, 30));
+
+        assertEquals(1000000, coefficients.getDegree());
+        assertEquals(3, coefficients.size());
+        assertEquals("7/2x^7", coefficients.get(7).toString());
+        assertTrue(coefficients.isZero(8));
+        assertEquals("[-1, 7/2x^7, x^1000000]", coefficients.getTerms().toString());
+    }
+
+    @Test
+    public void testAddCanceling() {
+        coefficients.add(new Term(1, 1, 1));
+        coefficients.add(new Term(2, 1, 500));
+        coefficients.add(new Term(-2, 1, 500));
+
+        assertEquals(1, coefficients.getDegree());
+        assertEquals(1, coefficients.size());
+        assertTrue(coefficients.isZero(500));
+
+        coefficients.clear();
+        assertEquals(-1, coefficients.getDegree());
+    }
+
+    @Test
+    public void testAddAll() {
+        coefficients.add(new Term(1, 1, 2));
+        coefficients.add(new Term(1, 1, 5));
+        coefficients.add(new Term(1, 1, 9));
+
+        // merges into the front, the middle and the back, with one combined and one canceled term
+        coefficients.addAll(Arrays.asList(new Term(4, 1, 0), new Term(-1, 1, 2), new Term(1, 1, 5),
+                new Term(1, 1, 7), new Term(1, 1, 12)));
+        assertEquals("[4, 2x^5, x^7, x^9, x^12]", coefficients.getTerms().toString());
+        assertEquals(5, coefficients.size());
+        assertEquals(12, coefficients.getDegree());
+
+        coefficients.addAll(Arrays.asList());
+        assertEquals(5, coefficients.size());
+    }
+
+    @Test
+    public void testEvaluateAtPoint() {
+        coefficients.add(new Term(1, 1, 100));
+        coefficients.add(new Term(3, 1, 7));
+        coefficients.add(new Term(-1, 2, 3));
+
+        assertEquals(Math.pow(1.01, 100) + 3 * Math.pow(1.01, 7) - Math.pow(1.01, 3) / 2,
+                coefficients.evaluateAtPoint(1.01), 1e-12);
+        assertEquals(1 + 3 - 0.5, coefficients.evaluateAtPoint(1));
+        assertEquals(1 - 3 + 0.5, coefficients.evaluateAtPoint(-1));
+        assertEquals(0, coefficients.evaluateAtPoint(0), 0);
+    }
+
+    @Test
+    public void testBigCoefficients() {
+        coefficients.add(new Term(Long.MAX_VALUE, 1, 200));
+        coefficients.add(new Term(1, 1, 0));
+        coefficients.add(new Term(Long.MAX_VALUE, 1, 200));
+        coefficients.add(new Term(1, 1, 100));
+
+        assertTrue(coefficients.get(200).isBigCoefficient());
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(1), coefficients.get(200).getBigNumerator());
+        assertEquals(2.0 * Long.MAX_VALUE + 2, coefficients.evaluateAtPoint(1));
+        assertFalse(coefficients.get(100).isBigCoefficient());
+
+        coefficients.add(new Term(-Long.MAX_VALUE, 1, 200));
+        assertEquals(Long.MAX_VALUE, coefficients.get(200).getNumerator());
+    }
+}
@@ -0,0 +1,29 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import static model.TestPolynomials.toPolynomial;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SturmSequenceTest {
+    @Test
+    public void testCountRealRoots() {
+        // (x - 1)(x - 2)(x - 3)
+        assertEquals(3, new SturmSequence(toPolynomial(-6, 11, -6, 1)).countRealRoots());
+
+        // x^2 + 1
+        assertEquals(0, new SturmSequence(toPolynomial(1, 0, 1)).countRealRoots());
+
+        // (2x^2 - 1)^2 has two distinct double roots
+        assertEquals(2, new SturmSequence(toPolynomial(1, 0, -4, 0, 4)).countRealRoots());
+    }
+
+    @Test
+    public void testCountRealRootsClose() {
+        // (x - 0.5)(x - 0.50001) * 10^5 * 2, roots much closer together than a fixed step sweep can see
+        assertEquals(2, new SturmSequence(toPolynomial(50001, -200002, 200000)).countRealRoots());
+
+        // x^3 - 30000000000x + 1999999999999999, whose discriminant is tiny next to its coefficients
+        assertEquals(3, new SturmSequence(toPolynomial(1999999999999999L, -30000000000L, 0, 1)).countRealRoots());
+    }
+}
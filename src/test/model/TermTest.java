@@ -1,9 +1,14 @@
 package model;
 
 import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 class TermTest {
     @Test
@@ -201,4 +206,66 @@ class TermTest {
         Term negativeTerm = new Term("-x^10");
         assertEquals("-x^10", negativeTerm.toString());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCombineTermsOverflow() {
+        Term term1 = new Term(Long.MAX_VALUE, 1, 1);
+        term1.combineTerm(new Term(1, 1, 1));
+        assertTrue(term1.isBigCoefficient());
+        assertEquals(BigInteger.ONE.shiftLeft(63), term1.getBigNumerator());
+        assertEquals("9223372036854775808x", term1.toString());
+
+        // back in range, so it's demoted to longs
+        term1.combineTerm(new Term(-1, 1, 1));
+        assertFalse(term1.isBigCoefficient());
+        assertEquals(Long.MAX_VALUE, term1.getNumerator());
+    }
+
+    @Test
+    public void testCombineTermsOverflowingDenominators() {
+        Term term1 = new Term(1, 3000000000L, 0);
+        term1.combineTerm(new Term(1, 5000000000L, 0));
+        assertFalse(term1.isBigCoefficient());
+        assertEquals(1, term1.getNumerator());
+        assertEquals(1875000000L, term1.getDenominator());
+        assertEquals(1 / 1875000000.0, term1.getCoefficient());
+    }
+
+    @Test
+    public void testBigCoefficient() {
+        Term term = new Term("-123456789012345678901234567890/11x^2");
+        assertTrue(term.isBigCoefficient());
+        assertTrue(term.isNegative());
+        assertEquals("123456789012345678901234567890/11x^2", term.getAbs().toString());
+        assertEquals("-123456789012345678901234567890/11x^2", term.createCopy().toString());
+        assertEquals(-123456789012345678901234567890.0 / 11 * 4, term.evaluateAtPoint(2), 1e15);
+        assertThrows(ArithmeticException.class, term::getNumerator);
+
+        Term derivative = term.getDerivative();
+        assertEquals("-246913578024691357802469135780/11x", derivative.toString());
+        assertEquals(BigInteger.valueOf(11), derivative.getBigDenominator());
+
+        Term longTerm = new Term(Long.MAX_VALUE, 1, 2);
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(1), longTerm.getDerivative().getBigNumerator());
+        assertEquals("-9223372036854775808", new Term(Long.MIN_VALUE, 1, 0).toString());
+    }
+
+    @Test
+    public void testEqualsAndHashCode() {
+        Term term = new Term(2, 4, 3);
+        assertEquals(new Term(-1, -2, 3), term);
+        assertEquals(new Term(-1, -2, 3).hashCode(), term.hashCode());
+        assertEquals(term, term);
+        assertNotEquals(new Term(1, 2, 2), term);
+        assertNotEquals(new Term(1, 3, 3), term);
+        assertNotEquals(term, "1/2x^3");
+
+        // arbitrary-precision coefficients are equal once they're simplified, and never equal a long one
+        BigInteger big = BigInteger.ONE.shiftLeft(70);
+        Term bigTerm = new Term(big.multiply(BigInteger.valueOf(3)), BigInteger.valueOf(6), 1);
+        assertEquals(new Term(big.shiftRight(1), BigInteger.ONE, 1), bigTerm);
+        assertEquals(new Term(big.shiftRight(1), BigInteger.ONE, 1).hashCode(), bigTerm.hashCode());
+        assertNotEquals(new Term(big, BigInteger.ONE, 1), bigTerm);
+        assertNotEquals(new Term(1, 1, 1), bigTerm);
+    }
+}
@@ -0,0 +1,61 @@
+package model;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/*
+ * Integer polynomials shared by the tests, as coefficient arrays indexed by degree
+ */
+final class TestPolynomials {
+    private TestPolynomials() {
+    }
+
+    // EFFECTS: returns the integer polynomial of the given coefficients (lowest degree first)
+    static BigInteger[] toPolynomial(long... coefficients) {
+        BigInteger[] p = new BigInteger[coefficients.length];
+        for (int i = 0; i < coefficients.length; i++) {
+            p[i] = BigInteger.valueOf(coefficients[i]);
+        }
+        return p;
+    }
+
+    // EFFECTS: returns the Chebyshev polynomial T_n, which has n simple real roots in (-1, 1)
+    static BigInteger[] getChebyshevPolynomial(int n) {
+        BigInteger[] previous = toPolynomial(1);
+        BigInteger[] current = toPolynomial(0, 1);
+        for (int i = 1; i < n; i++) {
+            BigInteger[] next = ZMathUtil.subtract(ZMathUtil.multiply(toPolynomial(0, 2), current), previous);
+            previous = current;
+            current = next;
+        }
+        return current;
+    }
+
+    // Returns the Swinnerton-Dyer polynomial S_n, the product of x + sqrt(2) +- sqrt(3) +- ... +- sqrt(p_n) over all
+    // the signs, which is irreducible over Z of degree 2^n but splits into linear or quadratic factors mod every
+    // prime. Each step is S_k(x) = S_(k-1)(x + sqrt(p)) S_(k-1)(x - sqrt(p)) = A^2 - pB^2, where
+    // S_(k-1)(x + sqrt(p)) = A(x) + sqrt(p) B(x)
+    // REQUIRES: 1 <= n <= 6
+    // EFFECTS: returns S_n
+    static BigInteger[] getSwinnertonDyerPolynomial(int n) {
+        long[] primes = {2, 3, 5, 7, 11, 13};
+        BigInteger[] s = toPolynomial(-2, 0, 1);
+        for (int k = 1; k < n; k++) {
+            BigInteger[][] shifted = {new BigInteger[s.length], new BigInteger[s.length]}; // {A, B}
+            Arrays.fill(shifted[0], BigInteger.ZERO);
+            Arrays.fill(shifted[1], BigInteger.ZERO);
+            for (int i = 0; i < s.length; i++) {
+                // (i choose m), the coefficient of x^(i - m) sqrt(p)^m in (x + sqrt(p))^i
+                BigInteger binomial = BigInteger.ONE;
+                for (int m = 0; m <= i; m++) {
+                    BigInteger term = s[i].multiply(binomial).multiply(BigInteger.valueOf(primes[k]).pow(m / 2));
+                    shifted[m % 2][i - m] = shifted[m % 2][i - m].add(term);
+                    binomial = binomial.multiply(BigInteger.valueOf(i - m)).divide(BigInteger.valueOf(m + 1));
+                }
+            }
+            s = ZMathUtil.subtract(ZMathUtil.multiply(shifted[0], shifted[0]),
+                    ZMathUtil.multiply(ZMathUtil.multiply(shifted[1], shifted[1]), toPolynomial(primes[k])));
+        }
+        return s;
+    }
+}
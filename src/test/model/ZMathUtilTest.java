@@ -0,0 +1,176 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+import static model.TestPolynomials.toPolynomial;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZMathUtilTest {
+    @Test
+    public void testFromTerms() {
+        List<Term> terms = Arrays.asList(new Term(-2, 1, 0), new Term(3, 1, 2));
+        assertArrayEquals(toPolynomial(-2, 0, 3), ZMathUtil.fromTerms(terms));
+        assertEquals(0, ZMathUtil.fromTerms(Arrays.asList()).length);
+    }
+
+    @Test
+    public void testGetDerivative() {
+        assertArrayEquals(toPolynomial(1, 4, 9), ZMathUtil.getDerivative(toPolynomial(5, 1, 2, 3)));
+        assertEquals(0, ZMathUtil.getDerivative(toPolynomial(5)).length);
+    }
+
+    @Test
+    public void testGetPseudoRemainder() {
+        // x^2 - 1 = (x + 1)(x - 1)
+        assertEquals(0, ZMathUtil.getPseudoRemainder(toPolynomial(-1, 0, 1), toPolynomial(-1, 1)).length);
+
+        // 4(x^2 + 1) = (2x + 1)(2x - 1) + 5
+        assertArrayEquals(toPolynomial(5), ZMathUtil.getPseudoRemainder(toPolynomial(1, 0, 1), toPolynomial(1, 2)));
+    }
+
+    @Test
+    public void testGetPseudoDivision() {
+        // 4(x^2 + 1) = (2x - 1)(2x + 1) + 5
+        BigInteger[][] division = ZMathUtil.getPseudoDivision(toPolynomial(1, 0, 1), toPolynomial(1, 2));
+        assertArrayEquals(toPolynomial(-1, 2), division[0]);
+        assertArrayEquals(toPolynomial(5), division[1]);
+
+        division = ZMathUtil.getPseudoDivision(toPolynomial(3), toPolynomial(1, 2));
+        assertEquals(0, division[0].length);
+        assertArrayEquals(toPolynomial(3), division[1]);
+    }
+
+    @Test
+    public void testTermConversions() {
+        // 1/2 x^2 - 2/3
+        List<Term> terms = Arrays.asList(new Term(-2, 3, 0), new Term(1, 2, 2));
+        BigInteger lcm = ZMathUtil.getDenominatorLcm(terms);
+        assertEquals(BigInteger.valueOf(6), lcm);
+        assertArrayEquals(toPolynomial(-4, 0, 3), ZMathUtil.fromTerms(terms, lcm));
+
+        List<Term> converted = ZMathUtil.toTerms(toPolynomial(-4, 0, 3), lcm);
+        assertEquals("[-2/3, 1/2x^2]", converted.toString());
+    }
+
+    @Test
+    public void testGetPrimitivePart() {
+        assertEquals(BigInteger.valueOf(3), ZMathUtil.getContent(toPolynomial(-6, 9, 3)));
+        assertArrayEquals(toPolynomial(-2, 3, 1), ZMathUtil.getPrimitivePart(toPolynomial(-6, 9, 3)));
+        assertArrayEquals(toPolynomial(-2, 3), ZMathUtil.getPrimitivePart(toPolynomial(-2, 3)));
+    }
+
+    @Test
+    public void testToScaledDoubles() {
+        assertArrayEquals(new double[] {-1, 0, 2}, ZMathUtil.toScaledDoubles(toPolynomial(-1, 0, 2)));
+
+        BigInteger[] huge = {BigInteger.TEN.pow(400), BigInteger.TEN.pow(400).negate()};
+        double[] scaled = ZMathUtil.toScaledDoubles(huge);
+        assertTrue(Double.isFinite(scaled[0]) && scaled[0] > 0);
+        assertEquals(-scaled[0], scaled[1]);
+    }
+
+    @Test
+    public void testGetRootBound() {
+        // (x - 1)(x - 2)(x - 3); fujiwara gives 2 * max(6, sqrt(11), cbrt(3)) = 12, cauchy gives 1 + 11 = 12
+        assertEquals(12, ZMathUtil.getRootBound(toPolynomial(-6, 11, -6, 1)), 1e-6);
+
+        // x^4 - 10000; fujiwara gives 2 * (5000)^(1/4) which is much tighter than cauchy
+        double bound = ZMathUtil.getRootBound(toPolynomial(-10000, 0, 0, 0, 1));
+        assertTrue(bound > 10 && bound < 20);
+    }
+
+    @Test
+    public void testGetGCD() {
+        // gcd((x - 1)(x + 2), 3(x - 1)(x - 5)) = x - 1
+        assertArrayEquals(toPolynomial(-1, 1), ZMathUtil.getGCD(toPolynomial(-2, 1, 1), toPolynomial(15, -18, 3)));
+        assertArrayEquals(toPolynomial(1), ZMathUtil.getGCD(toPolynomial(1, 0, 1), toPolynomial(-1, 1)));
+
+        // gcd((x^2 + 1)(x - 3)^2, (x^2 + 1)(2x + 5)) = x^2 + 1
+        BigInteger[] a = toPolynomial(9, -6, 10, -6, 1);
+        assertArrayEquals(toPolynomial(1, 0, 1), ZMathUtil.getGCD(a, toPolynomial(5, 2, 5, 2)));
+        assertArrayEquals(toPolynomial(1, 0, 1), ZMathUtil.getGCD(toPolynomial(5, 2, 5, 2), a));
+
+        // Knuth's example, whose primitive remainder sequence grows quickly
+        BigInteger[] knuthA = toPolynomial(-5, 2, 8, -3, -3, 0, 1, 0, 1);
+        BigInteger[] knuthB = toPolynomial(21, -9, -4, 0, 5, 0, 3);
+        assertArrayEquals(toPolynomial(1), ZMathUtil.getGCD(knuthA, knuthB));
+
+        assertArrayEquals(toPolynomial(-1, 1), ZMathUtil.getGCD(toPolynomial(2, -2), new BigInteger[0]));
+        assertEquals(0, ZMathUtil.getGCD(new BigInteger[0], new BigInteger[0]).length);
+    }
+
+    @Test
+    public void testGetExactQuotient() {
+        assertArrayEquals(toPolynomial(2, 1), ZMathUtil.getExactQuotient(toPolynomial(-2, 1, 1), toPolynomial(-1, 1)));
+        assertEquals(0, ZMathUtil.getExactQuotient(toPolynomial(1), toPolynomial(-1, 1)).length);
+    }
+
+    @Test
+    public void testGetSyntheticQuotient() {
+        // 6x^2 - x - 2 = (2x + 1)(3x - 2)
+        assertArrayEquals(new long[] {1, 2}, ZMathUtil.getSyntheticQuotient(new long[] {-2, -1, 6}, 2, 3));
+        assertArrayEquals(new long[] {-2, 3}, ZMathUtil.getSyntheticQuotient(new long[] {-2, -1, 6}, -1, 2));
+        assertEquals(0, ZMathUtil.getSyntheticQuotient(new long[] {-2, -1, 6}, 1, 2).length);
+        assertEquals(0, ZMathUtil.getSyntheticQuotient(new long[] {-2, -1, 6}, 1, 1).length);
+        assertArrayEquals(toPolynomial(1, 2), ZMathUtil.getSyntheticQuotient(toPolynomial(-2, -1, 6),
+                BigInteger.valueOf(2), BigInteger.valueOf(3)));
+        assertEquals(0, ZMathUtil.getSyntheticQuotient(toPolynomial(-2, -1, 6), BigInteger.ONE, BigInteger.ONE).length);
+    }
+
+    @Test
+    public void testGetSyntheticQuotientOverflow() {
+        long[] p = {1, 0, Long.MAX_VALUE};
+        assertThrows(ArithmeticException.class, () -> ZMathUtil.getSyntheticQuotient(p, 2, 1));
+        assertThrows(ArithmeticException.class, () -> ZMathUtil.toLongs(new BigInteger[] {BigInteger.TEN.pow(20)}));
+        assertArrayEquals(toPolynomial(3, -5), ZMathUtil.fromLongs(ZMathUtil.toLongs(toPolynomial(3, -5))));
+    }
+
+    @Test
+    public void testGetSquareFreePart() {
+        // (2x^2 - 1)^2 (x + 1)
+        BigInteger[] p = toPolynomial(1, 1, -4, -4, 4, 4);
+        assertArrayEquals(toPolynomial(-1, -1, 2, 2), ZMathUtil.getSquareFreePart(p));
+    }
+
+    @Test
+    public void testGetSquareFreeFactorization() {
+        // 2 (x + 1) (2x^2 - 1)^3
+        BigInteger[] p = toPolynomial(-2, -2, 12, 12, -24, -24, 16, 16);
+        List<BigInteger[]> factors = ZMathUtil.getSquareFreeFactorization(p);
+        assertEquals(3, factors.size());
+        assertArrayEquals(toPolynomial(1, 1), factors.get(0));
+        assertEquals(0, ZMathUtil.getDegree(factors.get(1)));
+        assertArrayEquals(toPolynomial(-1, 0, 2), factors.get(2));
+
+        assertEquals(1, ZMathUtil.getSquareFreeFactorization(toPolynomial(-2, 0, 1)).size());
+    }
+
+    @Test
+    public void testSubtract() {
+        assertArrayEquals(toPolynomial(1, 2), ZMathUtil.subtract(toPolynomial(1, 3, 1), toPolynomial(0, 1, 1)));
+        assertEquals(0, ZMathUtil.subtract(toPolynomial(1, 1), toPolynomial(1, 1)).length);
+    }
+
+    @Test
+    public void testTransformations() {
+        // p(x) = x^2 - 3x + 2
+        BigInteger[] p = toPolynomial(2, -3, 1);
+        assertArrayEquals(toPolynomial(0, -1, 1), ZMathUtil.getTaylorShift(p));
+        assertArrayEquals(toPolynomial(1, -3, 2), ZMathUtil.getReciprocal(p));
+        assertArrayEquals(toPolynomial(8, -6, 1), ZMathUtil.getRootsScaled(p, 1));
+        assertArrayEquals(toPolynomial(2, -6, 4), ZMathUtil.getRootsScaled(p, -1));
+        assertArrayEquals(toPolynomial(2, 3, 1), ZMathUtil.getRootsNegated(p));
+        assertEquals(2, ZMathUtil.countSignVariations(p));
+        assertEquals(0, ZMathUtil.countSignVariations(toPolynomial(2, 0, 3)));
+    }
+
+    @Test
+    public void testTrim() {
+        assertArrayEquals(toPolynomial(1, 2), ZMathUtil.trim(toPolynomial(1, 2, 0, 0)));
+        assertEquals(0, ZMathUtil.trim(toPolynomial(0, 0)).length);
+    }
+}
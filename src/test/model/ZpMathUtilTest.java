@@ -0,0 +1,81 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static model.TestPolynomials.toPolynomial;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZpMathUtilTest {
+    @Test
+    public void testReduce() {
+        assertArrayEquals(new long[] {2, 0, 1}, ZpMathUtil.reduce(toPolynomial(-3, 5, 6), 5));
+        assertEquals(0, ZpMathUtil.reduce(toPolynomial(7, 14), 7).length);
+        assertEquals(2, ZpMathUtil.getDegree(new long[] {1, 0, 3}));
+    }
+
+    @Test
+    public void testDivision() {
+        // x^3 + 2 = (x + 1)(x^2 + 4x + 1) + 1 (mod 5)
+        long[][] division = ZpMathUtil.getDivision(new long[] {2, 0, 0, 1}, new long[] {1, 1}, 5);
+        assertArrayEquals(new long[] {1, 4, 1}, division[0]);
+        assertArrayEquals(new long[] {1}, division[1]);
+
+        // 2x + 1 divided by 3 (mod 7): the quotient is 3x + 5, since 3 * 3 = 2 and 3 * 5 = 1
+        assertArrayEquals(new long[] {5, 3}, ZpMathUtil.getDivision(new long[] {1, 2}, new long[] {3}, 7)[0]);
+        assertEquals(0, ZpMathUtil.getRemainder(new long[] {1, 2}, new long[] {3}, 7).length);
+    }
+
+    @Test
+    public void testMonicAndDerivative() {
+        assertArrayEquals(new long[] {4, 1}, ZpMathUtil.getMonic(new long[] {1, 3}, 11));
+        assertEquals(0, ZpMathUtil.getMonic(new long[0], 11).length);
+
+        // the derivative of x^3 + x is 3x^2 + 1 = 1 (mod 3)
+        assertArrayEquals(new long[] {1}, ZpMathUtil.getDerivative(new long[] {0, 1, 0, 1}, 3));
+        assertEquals(6, ZpMathUtil.getInverse(2, 11));
+    }
+
+    @Test
+    public void testGetGCD() {
+        // (x + 1)(x + 2) and (x + 1)(x + 3) (mod 7)
+        long[] a = ZpMathUtil.multiply(new long[] {1, 1}, new long[] {2, 1}, 7);
+        long[] b = ZpMathUtil.multiply(new long[] {1, 1}, new long[] {3, 1}, 7);
+        assertArrayEquals(new long[] {1, 1}, ZpMathUtil.getGCD(a, b, 7));
+
+        long[][] extendedGCD = ZpMathUtil.getExtendedGCD(new long[] {2, 1}, new long[] {3, 1}, 7);
+        assertArrayEquals(new long[] {1}, extendedGCD[0]);
+        long[] combination = ZpMathUtil.subtract(ZpMathUtil.multiply(extendedGCD[1], new long[] {2, 1}, 7),
+                ZpMathUtil.multiply(ZpMathUtil.subtract(new long[0], extendedGCD[2], 7), new long[] {3, 1}, 7), 7);
+        assertArrayEquals(new long[] {1}, combination);
+    }
+
+    @Test
+    public void testGetPowerModulo() {
+        // x^5 = x (mod x^2 + 1, 5), since x^4 = 1
+        long[] power = ZpMathUtil.getPowerModulo(new long[] {0, 1}, BigInteger.valueOf(5), new long[] {1, 0, 1}, 5);
+        assertArrayEquals(new long[] {0, 1}, power);
+    }
+
+    @Test
+    public void testGetIrreducibleFactors() {
+        // x^4 - 1 = (x - 1)(x + 1)(x^2 + 1) (mod 3), where x^2 + 1 is irreducible
+        List<long[]> factors = ZpMathUtil.getIrreducibleFactors(new long[] {2, 0, 0, 0, 1}, 3, new Random(0));
+        factors.sort(Comparator.comparingLong((long[] factor) -> factor.length).thenComparingLong(f -> f[0]));
+        assertEquals(3, factors.size());
+        assertArrayEquals(new long[] {1, 1}, factors.get(0));
+        assertArrayEquals(new long[] {2, 1}, factors.get(1));
+        assertArrayEquals(new long[] {1, 0, 1}, factors.get(2));
+
+        // x^4 - 1 splits into linear factors mod 5
+        assertEquals(4, ZpMathUtil.getIrreducibleFactors(new long[] {4, 0, 0, 0, 1}, 5, new Random(0)).size());
+
+        // x^2 + x + 1 is irreducible mod 5, and x^4 + 1 splits into two quadratics mod 3
+        assertEquals(1, ZpMathUtil.getIrreducibleFactors(new long[] {1, 1, 1}, 5, new Random(0)).size());
+        assertEquals(2, ZpMathUtil.getIrreducibleFactors(new long[] {1, 0, 0, 0, 1}, 3, new Random(0)).size());
+    }
+}
@@ -0,0 +1,85 @@
+package persistence;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchSolverTest {
+
+    @Test
+    void testSolveSamplePolynomials() {
+        try {
+            Path destination = Files.createTempFile("batch-solver", ".json");
+            new BatchSolver().solve("./data/sample-polynomials.json", destination.toString());
+            JSONArray results = JsonUtil.getArray(destination.toString());
+            Files.delete(destination);
+
+            assertEquals(4, results.length());
+            JSONObject result = results.getJSONObject(1);
+            assertEquals("x^3 + 6x^2 + 11x + 6", result.getString("polynomial"));
+            assertEquals("[\"-3\",\"-2\",\"-1\"]", result.getJSONArray("xIntercepts").toString());
+            assertEquals(2, result.getJSONArray("criticalPoints").length());
+            assertEquals("[\"-2\"]", result.getJSONArray("inflectionPoints").toString());
+            assertEquals("-x^2 + 2x + 1", results.getJSONObject(3).getString("polynomial"));
+        } catch (IOException e) {
+            fail("Couldn't solve file");
+        }
+    }
+
+    @Test
+    void testSolveInInputOrder() throws IOException {
+        // many more polynomials than the workers and their queue hold at once
+        StringBuilder input = new StringBuilder("[");
+        for (int i = 0; i < 200; i++) {
+            input.append(i > 0 ? ", " : "").append("\"x^2 - ").append(i * i).append("\"");
+        }
+        StringWriter output = new StringWriter();
+        new BatchSolver(3, 2).solve(new StringReader(input.append("]").toString()), output);
+
+        JSONArray results = new JSONArray(output.toString());
+        assertEquals(200, results.length());
+        for (int i = 1; i < 200; i++) {
+            JSONArray roots = results.getJSONObject(i).getJSONArray("xIntercepts");
+            assertEquals("[\"-" + i + "\",\"" + i + "\"]", roots.toString());
+        }
+    }
+
+    @Test
+    void testSolveEmptyAndInvalid() throws IOException {
+        StringWriter output = new StringWriter();
+        new BatchSolver(2, 1).solve(new StringReader(" [ ] "), output);
+        assertEquals(0, new JSONArray(output.toString()).length());
+
+        output = new StringWriter();
+        new BatchSolver(2, 1).solve(new StringReader("[\"x^2 - 1\", \"x^y\"]"), output);
+        JSONArray results = new JSONArray(output.toString());
+        assertFalse(results.getJSONObject(0).has("error"));
+        assertTrue(results.getJSONObject(1).has("error"));
+
+        try {
+            new BatchSolver(2, 1).solve(new StringReader("{}"), new StringWriter());
+            fail("JSONException expected");
+        } catch (JSONException e) {
+            // pass
+        }
+    }
+
+    @Test
+    void testSolveNonExistentFile() {
+        try {
+            new BatchSolver().solve("./data/no-such-file.json", "./data/no-such-results.json");
+            fail("IOException expected");
+        } catch (IOException e) {
+            // pass
+        }
+    }
+}